@@ -0,0 +1,306 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+
+/**
+ * Bootstraps ArC for a benchmark, in the same way {@code ArcTestContainer} does for tests.
+ * <p>
+ * The generated classes are written to the directory this class was loaded from so that they're visible to the application
+ * class loader. Therefore, the benchmarks must be run from the exploded classpath and not from an uber-jar.
+ */
+public final class ArcBenchmarkContainer {
+
+    private static final Logger LOGGER = Logger.getLogger(ArcBenchmarkContainer.class);
+
+    static final String SYNTHETIC_BEANS_PACKAGE = ArcBenchmarkContainer.class.getPackage().getName() + ".synthetic";
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public static class Builder {
+
+        private final String name;
+        private final List<Class<?>> beanClasses;
+        private int syntheticBeans;
+        private Class<?> syntheticObserversEventType;
+        private int syntheticObservers;
+        private ArcInitConfig initConfig;
+
+        Builder(String name) {
+            this.name = name;
+            this.beanClasses = new ArrayList<>();
+            this.initConfig = ArcInitConfig.DEFAULT;
+        }
+
+        public Builder beanClasses(Class<?>... beanClasses) {
+            Collections.addAll(this.beanClasses, beanClasses);
+            return this;
+        }
+
+        /**
+         * Each synthetic bean is a generated {@code @Singleton} class with a distinct bean type, see
+         * {@link ArcBenchmarkContainer#syntheticBeanClass(int)}.
+         *
+         * @param count
+         * @return self
+         */
+        public Builder syntheticBeans(int count) {
+            this.syntheticBeans = count;
+            return this;
+        }
+
+        /**
+         * Each synthetic observer is a generated {@code @Singleton} class that declares a single observer method for the given
+         * event type.
+         *
+         * @param eventType
+         * @param count
+         * @return self
+         */
+        public Builder syntheticObservers(Class<?> eventType, int count) {
+            this.syntheticObserversEventType = eventType;
+            this.syntheticObservers = count;
+            return this;
+        }
+
+        public Builder initConfig(ArcInitConfig initConfig) {
+            this.initConfig = initConfig;
+            return this;
+        }
+
+        public ArcBenchmarkContainer build() {
+            return new ArcBenchmarkContainer(this);
+        }
+
+    }
+
+    private final String name;
+    private final List<Class<?>> beanClasses;
+    private final int syntheticBeans;
+    private final Class<?> syntheticObserversEventType;
+    private final int syntheticObservers;
+    private final ArcInitConfig initConfig;
+    private ClassLoader oldTccl;
+    private URLClassLoader deploymentClassLoader;
+
+    private ArcBenchmarkContainer(Builder builder) {
+        this.name = builder.name;
+        this.beanClasses = List.copyOf(builder.beanClasses);
+        this.syntheticBeans = builder.syntheticBeans;
+        this.syntheticObserversEventType = builder.syntheticObserversEventType;
+        this.syntheticObservers = builder.syntheticObservers;
+        this.initConfig = builder.initConfig;
+    }
+
+    /**
+     * Generates the deployment and initializes the container.
+     *
+     * @return the container
+     */
+    public ArcContainer start() {
+        generate();
+        return initialize();
+    }
+
+    /**
+     * Generates the deployment and sets up the deployment class loader, but does not initialize the container.
+     */
+    public void generate() {
+        // Make sure Arc is down
+        Arc.shutdown();
+        try {
+            doGenerate();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to generate the benchmark deployment", e);
+        }
+    }
+
+    /**
+     * Initializes the container for a deployment generated previously. The container may be initialized repeatedly, as long
+     * as it is shut down in between, e.g. via {@link Arc#shutdown()}.
+     *
+     * @return the container
+     * @see #generate()
+     */
+    public ArcContainer initialize() {
+        if (deploymentClassLoader == null) {
+            throw new IllegalStateException("The deployment was not generated yet");
+        }
+        return Arc.initialize(initConfig);
+    }
+
+    public void shutdown() {
+        Arc.shutdown();
+        if (oldTccl != null) {
+            Thread.currentThread().setContextClassLoader(oldTccl);
+            oldTccl = null;
+        }
+        if (deploymentClassLoader != null) {
+            try {
+                deploymentClassLoader.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close the deployment class loader", e);
+            }
+            deploymentClassLoader = null;
+        }
+    }
+
+    /**
+     *
+     * @param index
+     * @return the class of the synthetic bean with the given index
+     * @see Builder#syntheticBeans(int)
+     */
+    public static Class<?> syntheticBeanClass(int index) {
+        try {
+            return Class.forName(syntheticBeanClassName(index), false, ArcBenchmarkContainer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void doGenerate() throws Exception {
+        File classesDirectory = getClassesDirectory();
+        File componentsProviderFile = new File(classesDirectory.getParentFile(),
+                "generated-arc-benchmarks/" + name + "/" + ComponentsProvider.class.getSimpleName());
+
+        Indexer indexer = new Indexer();
+        for (Class<?> beanClass : beanClasses) {
+            try (InputStream stream = ArcBenchmarkContainer.class.getClassLoader()
+                    .getResourceAsStream(beanClass.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        generateSyntheticBeans(classesDirectory, indexer);
+        generateSyntheticObservers(classesDirectory, indexer);
+        IndexView immutableBeanArchiveIndex = BeanArchives.buildImmutableBeanArchiveIndex(indexer.complete());
+
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName(name)
+                .setImmutableBeanArchiveIndex(immutableBeanArchiveIndex)
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(
+                        ArcBenchmarkContainer.class.getClassLoader(), new ConcurrentHashMap<>(), immutableBeanArchiveIndex))
+                .setRemoveUnusedBeans(false)
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(classesDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                    componentsProviderFile.getParentFile().mkdirs();
+                                    try (FileOutputStream out = new FileOutputStream(componentsProviderFile)) {
+                                        out.write(resource.getData());
+                                    }
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build();
+        beanProcessor.process();
+
+        oldTccl = Thread.currentThread().getContextClassLoader();
+        deploymentClassLoader = new URLClassLoader(new URL[] {}, ArcBenchmarkContainer.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (("META-INF/services/" + ComponentsProvider.class.getName()).equals(name)) {
+                    // Only load the components of this deployment
+                    return Collections.enumeration(Collections.singleton(componentsProviderFile.toURI().toURL()));
+                }
+                return super.getResources(name);
+            }
+        };
+        Thread.currentThread().setContextClassLoader(deploymentClassLoader);
+    }
+
+    private void generateSyntheticBeans(File classesDirectory, Indexer indexer) {
+        for (int i = 0; i < syntheticBeans; i++) {
+            ClassCreator beanClass = ClassCreator.builder().className(syntheticBeanClassName(i))
+                    .classOutput(syntheticClassOutput(classesDirectory, indexer)).build();
+            beanClass.addAnnotation(Singleton.class);
+            beanClass.close();
+        }
+    }
+
+    private void generateSyntheticObservers(File classesDirectory, Indexer indexer) {
+        for (int i = 0; i < syntheticObservers; i++) {
+            ClassCreator observerClass = ClassCreator.builder()
+                    .className(SYNTHETIC_BEANS_PACKAGE + ".SyntheticObserver" + name + i)
+                    .classOutput(syntheticClassOutput(classesDirectory, indexer)).build();
+            observerClass.addAnnotation(Singleton.class);
+            // void observe(@Observes EventType event) {}
+            MethodCreator observe = observerClass.getMethodCreator("observe", void.class, syntheticObserversEventType);
+            observe.getParameterAnnotations(0).addAnnotation(Observes.class);
+            observe.returnValue(null);
+            observerClass.close();
+        }
+    }
+
+    private static ClassOutput syntheticClassOutput(File classesDirectory, Indexer indexer) {
+        return (className, data) -> {
+            File classFile = new File(classesDirectory, className.replace('.', '/') + ".class");
+            classFile.getParentFile().mkdirs();
+            try {
+                Files.write(classFile.toPath(), data);
+                indexer.index(new ByteArrayInputStream(data));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static String syntheticBeanClassName(int index) {
+        return SYNTHETIC_BEANS_PACKAGE + ".SyntheticBean" + index;
+    }
+
+    private static File getClassesDirectory() {
+        try {
+            File location = new File(ArcBenchmarkContainer.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!location.isDirectory()) {
+                throw new IllegalStateException(
+                        "Benchmarks must be run from the exploded classpath; e.g. mvn package exec:exec -Djmh.args=\"...\"");
+            }
+            return location;
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the typesafe resolution that is performed when a required type and qualifiers are looked up for the first time,
+ * i.e. when the result is not cached yet.
+ * {@link BeanManager#getBeans(java.lang.reflect.Type, java.lang.annotation.Annotation...)}
+ * never caches the results and so it's used to simulate the cold lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanResolutionBenchmark {
+
+    @Param({ "100", "1000", "8000" })
+    int beans;
+
+    private ArcBenchmarkContainer container;
+    private BeanManager beanManager;
+    private Class<?>[] requiredTypes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("BeanResolution" + beans).syntheticBeans(beans).build();
+        beanManager = container.start().beanManager();
+        requiredTypes = new Class<?>[beans];
+        for (int i = 0; i < beans; i++) {
+            requiredTypes[i] = ArcBenchmarkContainer.syntheticBeanClass(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Set<Bean<?>> resolveUncached() {
+        int idx = next++;
+        if (next == requiredTypes.length) {
+            next = 0;
+        }
+        return beanManager.getBeans(requiredTypes[idx]);
+    }
+
+}
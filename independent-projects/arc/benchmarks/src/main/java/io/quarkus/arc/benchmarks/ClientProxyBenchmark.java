@@ -0,0 +1,113 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Measures a method invocation upon a client proxy of a normal scoped bean. A {@code @Singleton} bean has no client proxy and
+ * serves as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    @Param({ "application", "request", "singleton" })
+    String scope;
+
+    private ArcBenchmarkContainer container;
+    private ArcContainer arc;
+    private Target target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("ClientProxy")
+                .beanClasses(Target.class, ApplicationBean.class, RequestBean.class, SingletonBean.class).build();
+        arc = container.start();
+        // The request context is active on the benchmark thread
+        arc.requestContext().activate();
+        switch (scope) {
+            case "application":
+                target = arc.instance(ApplicationBean.class).get();
+                break;
+            case "request":
+                target = arc.instance(RequestBean.class).get();
+                break;
+            case "singleton":
+                target = arc.instance(SingletonBean.class).get();
+                break;
+            default:
+                throw new IllegalArgumentException(scope);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        arc.requestContext().terminate();
+        container.shutdown();
+    }
+
+    @Benchmark
+    public int invoke() {
+        return target.ping();
+    }
+
+    public interface Target {
+
+        int ping();
+
+    }
+
+    @ApplicationScoped
+    public static class ApplicationBean implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class RequestBean implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Singleton
+    public static class SingletonBean implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CompactThreadLocalCurrentContextFactory;
+
+/**
+ * Compares the default thread-local {@link io.quarkus.arc.CurrentContextFactory} with the
+ * {@link CompactThreadLocalCurrentContextFactory}.
+ * <p>
+ * Run with {@code -prof gc} to compare the memory allocated per thread in {@link #activateOnNewThread()} and the memory
+ * allocated in {@link #activateScopes()}. The latter binds a state for several scopes on the same thread; the default factory
+ * needs a thread-local entry per scope whereas the compact factory needs a single entry and a carrier array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrentContextBenchmark {
+
+    private static final int SCOPES = 4;
+
+    @Param({ "threadLocal", "compact" })
+    String factory;
+
+    private ArcBenchmarkContainer container;
+    private ArcContainer arc;
+    private ManagedContext requestContext;
+    private ContextState state;
+    private Runnable task;
+    private List<CurrentContext<ContextState>> scopes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ArcInitConfig.Builder config = ArcInitConfig.builder();
+        if ("compact".equals(factory)) {
+            config.setCurrentContextFactory(new CompactThreadLocalCurrentContextFactory());
+        }
+        container = ArcBenchmarkContainer.builder("CurrentContext").beanClasses(RequestBean.class)
+                .initConfig(config.build()).build();
+        arc = container.start();
+        requestContext = arc.requestContext();
+        requestContext.activate();
+        state = requestContext.getState();
+        arc.instance(RequestBean.class).get().ping();
+        requestContext.deactivate();
+        task = () -> arc.instance(RequestBean.class).get().ping();
+        // Simulates additional normal scopes, e.g. custom contexts
+        scopes = new ArrayList<>();
+        for (int i = 0; i < SCOPES; i++) {
+            scopes.add(arc.getCurrentContextFactory().create(RequestScoped.class));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestContext.destroy(state);
+        container.shutdown();
+    }
+
+    @Benchmark
+    public void activateDeactivate() {
+        requestContext.activate(state);
+        requestContext.deactivate();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public void runWithRequestContext() {
+        arc.runWithRequestContext(state, task);
+    }
+
+    @Benchmark
+    public void activateOnNewThread() throws InterruptedException {
+        Thread thread = new Thread(this::activateDeactivate);
+        thread.start();
+        thread.join();
+    }
+
+    @Benchmark
+    public void activateScopes() {
+        for (CurrentContext<ContextState> scope : scopes) {
+            scope.set(state);
+        }
+        for (CurrentContext<ContextState> scope : scopes) {
+            scope.remove();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+}
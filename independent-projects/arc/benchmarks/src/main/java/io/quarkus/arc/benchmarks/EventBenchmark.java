@@ -0,0 +1,94 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableEvent;
+
+/**
+ * Measures the synchronous notification of the given number of observers, see
+ * {@link ArcBenchmarkContainer.Builder#syntheticObservers(Class, int)}.
+ * <p>
+ * The {@code fireBatch} and {@code fireAll} benchmarks compare the delivery of {@value #BATCH_SIZE} events with
+ * {@link InjectableEvent#fire(Object)} and {@link InjectableEvent#fireAll(java.util.Collection)} respectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    static final int BATCH_SIZE = 100;
+
+    @Param({ "1", "10", "100" })
+    int observers;
+
+    private ArcBenchmarkContainer container;
+    private InjectableEvent<Ping> event;
+    private Ping ping;
+    private List<Ping> batch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("Event" + observers).beanClasses(Ping.class, Emitter.class)
+                .syntheticObservers(Ping.class, observers).build();
+        event = container.start().instance(Emitter.class).get().event;
+        ping = new Ping();
+        batch = Collections.nCopies(BATCH_SIZE, ping);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(ping);
+    }
+
+    @Benchmark
+    public void fireBatch() {
+        for (Ping p : batch) {
+            event.fire(p);
+        }
+    }
+
+    @Benchmark
+    public void fireAll() {
+        event.fireAll(batch);
+    }
+
+    public static class Ping {
+
+    }
+
+    @Singleton
+    public static class Emitter {
+
+        @Inject
+        InjectableEvent<Ping> event;
+
+    }
+
+}
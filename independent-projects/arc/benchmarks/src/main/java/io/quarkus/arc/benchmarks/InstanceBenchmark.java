@@ -0,0 +1,109 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the programmatic lookup via {@link Instance}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBenchmark {
+
+    private ArcBenchmarkContainer container;
+    private Client client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("Instance")
+                .beanClasses(Special.class, Client.class, Foo.class, SpecialFoo.class).build();
+        client = container.start().instance(Client.class).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Foo get() {
+        return client.foo.get();
+    }
+
+    @Benchmark
+    public Foo selectGet() {
+        return client.instance.select(Foo.class).get();
+    }
+
+    @Benchmark
+    public Foo selectQualifiedGet() {
+        return client.any.select(Foo.class, Special.Literal.INSTANCE).get();
+    }
+
+    @Singleton
+    public static class Client {
+
+        @Inject
+        Instance<Object> instance;
+
+        @Inject
+        @Any
+        Instance<Object> any;
+
+        @Inject
+        Instance<Foo> foo;
+
+    }
+
+    @Singleton
+    public static class Foo {
+
+    }
+
+    @Special
+    @Singleton
+    public static class SpecialFoo extends Foo {
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Special {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Special> implements Special {
+
+            public static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+}
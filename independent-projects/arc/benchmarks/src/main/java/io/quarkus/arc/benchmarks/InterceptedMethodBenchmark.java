@@ -0,0 +1,302 @@
+package io.quarkus.arc.benchmarks;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Measures the invocation of an intercepted method with the given number of interceptors bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptedMethodBenchmark {
+
+    @Param({ "1", "2", "4", "8" })
+    int interceptors;
+
+    private ArcBenchmarkContainer container;
+    private Service service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("InterceptedMethod")
+                .beanClasses(Service.class, Service1.class, Service2.class, Service4.class, Service8.class,
+                        Binding1.class, Binding2.class, Binding3.class, Binding4.class, Binding5.class, Binding6.class,
+                        Binding7.class, Binding8.class, Interceptor1.class, Interceptor2.class, Interceptor3.class,
+                        Interceptor4.class, Interceptor5.class, Interceptor6.class, Interceptor7.class,
+                        Interceptor8.class)
+                .build();
+        ArcContainer arc = container.start();
+        switch (interceptors) {
+            case 1:
+                service = arc.instance(Service1.class).get();
+                break;
+            case 2:
+                service = arc.instance(Service2.class).get();
+                break;
+            case 4:
+                service = arc.instance(Service4.class).get();
+                break;
+            case 8:
+                service = arc.instance(Service8.class).get();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported number of interceptors: " + interceptors);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public int invoke() {
+        return service.ping();
+    }
+
+    public interface Service {
+
+        int ping();
+
+    }
+
+    @Binding1
+    @Singleton
+    public static class Service1 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Binding1
+    @Binding2
+    @Singleton
+    public static class Service2 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Binding1
+    @Binding2
+    @Binding3
+    @Binding4
+    @Singleton
+    public static class Service4 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Binding1
+    @Binding2
+    @Binding3
+    @Binding4
+    @Binding5
+    @Binding6
+    @Binding7
+    @Binding8
+    @Singleton
+    public static class Service8 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Binding1
+    @Priority(1)
+    @Interceptor
+    public static class Interceptor1 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding2
+    @Priority(2)
+    @Interceptor
+    public static class Interceptor2 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding3
+    @Priority(3)
+    @Interceptor
+    public static class Interceptor3 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding4
+    @Priority(4)
+    @Interceptor
+    public static class Interceptor4 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding5
+    @Priority(5)
+    @Interceptor
+    public static class Interceptor5 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding6
+    @Priority(6)
+    @Interceptor
+    public static class Interceptor6 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding7
+    @Priority(7)
+    @Interceptor
+    public static class Interceptor7 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Binding8
+    @Priority(8)
+    @Interceptor
+    public static class Interceptor8 {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding1 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding2 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding3 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding4 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding5 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding6 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding7 {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Binding8 {
+
+    }
+
+}
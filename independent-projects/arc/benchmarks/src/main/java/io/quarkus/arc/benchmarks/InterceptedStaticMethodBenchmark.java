@@ -0,0 +1,137 @@
+package io.quarkus.arc.benchmarks;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.InterceptedStaticMethods;
+import io.quarkus.arc.impl.InterceptedStaticMethods.Holder;
+import io.quarkus.arc.impl.InterceptedStaticMethods.InterceptedStaticMethod;
+import io.quarkus.arc.impl.InterceptorInvocation;
+
+/**
+ * Compares the lookup of an intercepted static method by its key with the lookup via a holder stored in a static final
+ * field.
+ * <p>
+ * The static methods and their registration mimic the code generated for intercepted static methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptedStaticMethodBenchmark {
+
+    private static final String KEY = InterceptedStaticMethodBenchmark.class.getName() + "#sum";
+
+    private ArcBenchmarkContainer container;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        container = ArcBenchmarkContainer.builder("InterceptedStaticMethod")
+                .beanClasses(Intercepted.class, StaticMethodInterceptor.class)
+                .build();
+        container.start();
+        InjectableInterceptor<?> interceptor = ArcContainerImpl.instance().getInterceptors().stream()
+                .filter(i -> i.getBeanClass().equals(StaticMethodInterceptor.class))
+                .findFirst()
+                .orElseThrow();
+        InterceptedMethodMetadata metadata = new InterceptedMethodMetadata(
+                List.of(InterceptorInvocation.aroundInvoke(interceptor, newInstance(interceptor))),
+                StaticMethods.class.getDeclaredMethod("sum", int.class, int.class), Set.of());
+        InterceptedStaticMethods.register(KEY, new InterceptedStaticMethod(StaticMethods::forward, metadata));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Object key() throws Exception {
+        return StaticMethods.sumByKey(1, 2);
+    }
+
+    @Benchmark
+    public Object holder() throws Exception {
+        return StaticMethods.sumByHolder(1, 2);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object newInstance(InjectableInterceptor interceptor) {
+        return interceptor.get(new CreationalContextImpl<>(interceptor));
+    }
+
+    public static class StaticMethods {
+
+        private static final Holder HOLDER = InterceptedStaticMethods.holder(KEY);
+
+        public static int sum(int a, int b) {
+            return a + b;
+        }
+
+        static Object sumByKey(int a, int b) throws Exception {
+            return InterceptedStaticMethods.aroundInvoke(KEY, new Object[] { a, b });
+        }
+
+        static Object sumByHolder(int a, int b) throws Exception {
+            return InterceptedStaticMethods.aroundInvoke(HOLDER, new Object[] { a, b });
+        }
+
+        static Object forward(InvocationContext ctx) {
+            Object[] params = ctx.getParameters();
+            return sum((Integer) params[0], (Integer) params[1]);
+        }
+
+    }
+
+    @Intercepted
+    @Priority(1)
+    @Interceptor
+    public static class StaticMethodInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    public @interface Intercepted {
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * Measures the lifecycle of a request context: activation, creation of the given number of request scoped instances and
+ * destruction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    @Param({ "0", "1", "4" })
+    int instances;
+
+    private ArcBenchmarkContainer container;
+    private ManagedContext requestContext;
+    private Target[] targets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("RequestContext")
+                .beanClasses(Target.class, Alpha.class, Bravo.class, Charlie.class, Delta.class).build();
+        ArcContainer arc = container.start();
+        requestContext = arc.requestContext();
+        // Client proxies
+        Target[] all = new Target[] { arc.instance(Alpha.class).get(), arc.instance(Bravo.class).get(),
+                arc.instance(Charlie.class).get(), arc.instance(Delta.class).get() };
+        targets = new Target[instances];
+        System.arraycopy(all, 0, targets, 0, instances);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public int activateTerminate() {
+        requestContext.activate();
+        try {
+            int result = 0;
+            for (Target target : targets) {
+                result += target.ping();
+            }
+            return result;
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    public interface Target {
+
+        int ping();
+
+    }
+
+    @RequestScoped
+    public static class Alpha implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bravo implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Charlie implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Delta implements Target {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+}
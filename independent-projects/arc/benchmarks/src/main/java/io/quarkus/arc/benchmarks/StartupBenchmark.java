@@ -0,0 +1,63 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+
+/**
+ * Measures the container initialization for a deployment with the given number of synthetic beans. The deployment is
+ * generated once per trial; only {@link Arc#initialize()} is measured.
+ * <p>
+ * Note that the generated {@code ComponentsProvider} exceeds the class file limits for deployments with more than ~10k
+ * beans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({ "1000", "5000", "10000" })
+    int beans;
+
+    private ArcBenchmarkContainer container;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = ArcBenchmarkContainer.builder("Startup" + beans).syntheticBeans(beans).build();
+        container.generate();
+    }
+
+    @TearDown(Level.Iteration)
+    public void shutdownContainer() {
+        Arc.shutdown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public ArcContainer initialize() {
+        return container.initialize();
+    }
+
+}
@@ -39,11 +39,13 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.All;
 import io.quarkus.arc.Lock;
+import io.quarkus.arc.MaxConcurrency;
 import io.quarkus.arc.impl.ActivateRequestContextInterceptor;
 import io.quarkus.arc.impl.DefaultAsyncObserverExceptionHandler;
 import io.quarkus.arc.impl.Identified;
 import io.quarkus.arc.impl.InjectableRequestContextController;
 import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.impl.MaxConcurrencyInterceptor;
 
 public final class BeanArchives {
 
@@ -84,12 +86,14 @@ public final class BeanArchives {
         index(indexer, Intercepted.class.getName());
         index(indexer, Model.class.getName());
         index(indexer, Lock.class.getName());
+        index(indexer, MaxConcurrency.class.getName());
         index(indexer, All.class.getName());
         index(indexer, Identified.class.getName());
         // Arc built-in beans
         index(indexer, ActivateRequestContextInterceptor.class.getName());
         index(indexer, InjectableRequestContextController.class.getName());
         index(indexer, LockInterceptor.class.getName());
+        index(indexer, MaxConcurrencyInterceptor.class.getName());
         index(indexer, DefaultAsyncObserverExceptionHandler.class.getName());
         return indexer.complete();
     }
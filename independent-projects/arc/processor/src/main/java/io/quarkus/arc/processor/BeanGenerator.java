@@ -12,6 +12,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -93,6 +94,7 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
+    private final Map<BeanInfo, Integer> beanToContextIndex;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
@@ -110,6 +112,7 @@ public class BeanGenerator extends AbstractGenerator {
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
         this.beanToGeneratedBaseName = new HashMap<>();
+        this.beanToContextIndex = new HashMap<>();
     }
 
     /**
@@ -136,6 +139,28 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
+    /**
+     * Assigns a dense index to each bean of a built-in context that stores the contextual instances in an array.
+     * The beans are sorted by identifier so that the generated bytecode is deterministic.
+     *
+     * @param beans
+     */
+    void precomputeContextIndexes(Collection<BeanInfo> beans) {
+        // Each built-in scope has its own sequence of indexes
+        for (BuiltinScope scope : List.of(BuiltinScope.REQUEST, BuiltinScope.APPLICATION, BuiltinScope.SINGLETON)) {
+            List<BeanInfo> scoped = new ArrayList<>();
+            for (BeanInfo bean : beans) {
+                if (scope.is(bean.getScope())) {
+                    scoped.add(bean);
+                }
+            }
+            scoped.sort(Comparator.comparing(BeanInfo::getIdentifier));
+            for (int i = 0; i < scoped.size(); i++) {
+                beanToContextIndex.put(scoped.get(i), i);
+            }
+        }
+    }
+
     /**
      * Precompute the generated name for the given bean so that the {@link ComponentsProviderGenerator} can be executed before
      * all beans metadata are generated.
@@ -296,6 +321,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -382,6 +408,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetContextIndex(bean, beanCreator);
 
         if (stereotypes != null) {
             implementGetStereotypes(bean, beanCreator, stereotypes.getFieldDescriptor());
@@ -466,6 +493,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -546,6 +574,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         implementIsAlternative(bean, beanCreator);
         implementGetPriority(bean, beanCreator);
+        implementGetContextIndex(bean, beanCreator);
 
         implementGetDeclaringBean(beanCreator);
         if (stereotypes != null) {
@@ -1829,6 +1858,15 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
+    protected void implementGetContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        Integer index = beanToContextIndex.get(bean);
+        if (index != null) {
+            MethodCreator getContextIndex = beanCreator.getMethodCreator("getContextIndex", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getContextIndex.returnValue(getContextIndex.load(index.intValue()));
+        }
+    }
+
     protected void implementIsDefaultBean(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isDefaultBean = beanCreator.getMethodCreator("isDefaultBean", boolean.class)
                 .setModifiers(ACC_PUBLIC);
@@ -79,6 +79,7 @@ public class BeanProcessor {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final boolean skipObserverRequestContextActivation;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -107,6 +108,7 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.skipObserverRequestContextActivation = builder.skipObserverRequestContextActivation;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
         // Initialize all build processors
@@ -195,6 +197,7 @@ public class BeanProcessor {
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
         }
+        beanGenerator.precomputeContextIndexes(beans);
 
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
                 allowMocking, refReg, existingClasses);
@@ -221,11 +224,15 @@ public class BeanProcessor {
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
-                injectionPointAnnotationsPredicate, allowMocking);
+                injectionPointAnnotationsPredicate, allowMocking, skipObserverRequestContextActivation);
         Collection<ObserverInfo> observers = beanDeployment.getObservers();
         for (ObserverInfo observer : observers) {
             observerGenerator.precomputeGeneratedName(observer);
         }
+        ObserverDispatcherGenerator observerDispatcherGenerator = new ObserverDispatcherGenerator(generateSources,
+                observerToGeneratedName, allowMocking);
+        Map<DotName, String> eventToDispatcherName = observerDispatcherGenerator.precomputeDispatchers(name,
+                beanDeployment);
 
         List<Resource> resources = new ArrayList<>();
 
@@ -246,7 +253,8 @@ public class BeanProcessor {
                                     name,
                                     beanDeployment,
                                     beanToGeneratedName,
-                                    observerToGeneratedName);
+                                    observerToGeneratedName,
+                                    eventToDispatcherName);
                 }
             }));
 
@@ -335,6 +343,14 @@ public class BeanProcessor {
                 }));
             }
 
+            // Generate observer dispatchers
+            primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                @Override
+                public Collection<Resource> call() throws Exception {
+                    return observerDispatcherGenerator.generate();
+                }
+            }));
+
             for (Future<Collection<Resource>> future : primaryTasks) {
                 resources.addAll(future.get());
             }
@@ -392,6 +408,8 @@ public class BeanProcessor {
             for (ObserverInfo observer : observers) {
                 resources.addAll(observerGenerator.generate(observer));
             }
+            // Generate observer dispatchers
+            resources.addAll(observerDispatcherGenerator.generate());
 
             // Generate _ComponentsProvider
             resources.addAll(
@@ -399,7 +417,8 @@ public class BeanProcessor {
                             name,
                             beanDeployment,
                             beanToGeneratedName,
-                            observerToGeneratedName));
+                            observerToGeneratedName,
+                            eventToDispatcherName));
         }
 
         // Generate AnnotationLiterals - at this point all annotation literals must be processed
@@ -489,6 +508,7 @@ public class BeanProcessor {
         boolean transformPrivateInjectedFields;
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
+        boolean skipObserverRequestContextActivation;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -523,6 +543,7 @@ public class BeanProcessor {
             transformPrivateInjectedFields = false;
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
+            skipObserverRequestContextActivation = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -757,6 +778,23 @@ public class BeanProcessor {
             this.failOnInterceptedPrivateMethod = failOnInterceptedPrivateMethod;
         }
 
+        /**
+         * If set to true the container will not activate the request context when notifying a synchronous observer method
+         * that provably does not need it, i.e. the declaring bean and all dependencies, even transitive ones, are
+         * {@code @Dependent}, {@code @Singleton} or {@code @ApplicationScoped} and no programmatic lookup is involved.
+         * <p>
+         * Note that an observer method may still perform a lookup via {@code Arc.container()}, {@code CDI.current()} or a
+         * {@code BeanManager} obtained by other means. Such lookups are not detected and a request scoped bean would not be
+         * available during the notification.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setSkipObserverRequestContextActivation(boolean value) {
+            this.skipObserverRequestContextActivation = value;
+            return this;
+        }
+
         /**
          * If set to true the will generate source files of all generated classes for debug purposes. The generated source is
          * not actually a source file but a textual representation of generated code.
@@ -54,7 +54,7 @@ enum BuiltinBean {
                     && ip.getRequiredQualifiers().iterator().next().name().equals(DotNames.INTERCEPTED),
             DotNames.BEAN),
     BEAN_MANAGER(BuiltinBean::generateBeanManagerBytecode, DotNames.BEAN_MANAGER),
-    EVENT(BuiltinBean::generateEventBytecode, DotNames.EVENT),
+    EVENT(BuiltinBean::generateEventBytecode, DotNames.EVENT, DotNames.INJECTABLE_EVENT),
     RESOURCE(BuiltinBean::generateResourceBytecode, (ip, names) -> ip.getKind() == InjectionPointKind.RESOURCE,
             DotNames.OBJECT),
     EVENT_METADATA(Generator.NOOP, BuiltinBean::cdiAndRawTypeMatches,
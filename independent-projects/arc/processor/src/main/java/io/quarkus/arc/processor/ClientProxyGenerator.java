@@ -26,10 +26,12 @@ import org.jboss.jandex.Type;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.arc.processor.ResourceOutput.Resource.SpecialType;
+import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.FieldCreator;
@@ -54,6 +56,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String DELEGATE_HANDLE_FIELD = "delegateHandle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -133,6 +136,10 @@ public class ClientProxyGenerator extends AbstractGenerator {
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            // The field does not need to be volatile because the handle is immutable, except for the validity flag
+            clientProxy.getFieldCreator(DELEGATE_HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE);
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -296,11 +303,30 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
-                    creator.readInstanceField(
-                            FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
-                            creator.getThis()),
-                    beanHandle));
+            FieldDescriptor delegateHandleField = FieldDescriptor.of(clientProxy.getClassName(), DELEGATE_HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            // ContextInstanceHandleImpl handle = this.delegateHandle;
+            // if (handle != null && handle.isValid()) return handle.get();
+            AssignableResultHandle delegateHandle = creator.createVariable(ContextInstanceHandleImpl.class);
+            creator.assign(delegateHandle, creator.readInstanceField(delegateHandleField, creator.getThis()));
+            BytecodeCreator cached = creator.ifNotNull(delegateHandle).trueBranch();
+            BytecodeCreator valid = cached
+                    .ifTrue(cached.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_VALID, delegateHandle))
+                    .trueBranch();
+            valid.returnValue(valid.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET, delegateHandle));
+
+            ResultHandle contextHandle = creator.readInstanceField(
+                    FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
+                    creator.getThis());
+            creator.assign(delegateHandle,
+                    creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE, contextHandle,
+                            beanHandle));
+            // Custom application context - no caching
+            BytecodeCreator notSupported = creator.ifNull(delegateHandle).trueBranch();
+            notSupported.returnValue(notSupported.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+                    contextHandle, beanHandle));
+            creator.writeInstanceField(delegateHandleField, creator.getThis(), delegateHandle);
+            creator.returnValue(creator.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET, delegateHandle));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
@@ -8,18 +8,23 @@ import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import jakarta.enterprise.inject.spi.BeanContainer;
+
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -53,6 +58,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_RESOLUTIONS = "addResolutions";
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -70,10 +76,11 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
      * @param beanDeployment
      * @param beanToGeneratedName
      * @param observerToGeneratedName
+     * @param eventToDispatcherName
      * @return a collection of resources
      */
     Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<BeanInfo, String> beanToGeneratedName,
-            Map<ObserverInfo, String> observerToGeneratedName) {
+            Map<ObserverInfo, String> observerToGeneratedName, Map<DotName, String> eventToDispatcherName) {
 
         ResourceClassOutput classOutput = new ResourceClassOutput(true, generateSources);
 
@@ -158,11 +165,25 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
                     getComponents.load(entry.getKey().toString()), nonbindingMembers);
         }
 
+        // Break processing of resolutions computed at build time into multiple addResolutions() methods
+        ResultHandle resolutionsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+        ResultHandle resolutionsTypeCacheHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processResolutions(componentsProvider, getComponents, resolutionsHandle, resolutionsTypeCacheHandle, beanDeployment);
+
+        // Observer dispatchers
+        ResultHandle dispatchersHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        for (Entry<DotName, String> entry : eventToDispatcherName.entrySet()) {
+            ResultHandle eventTypeHandle = Types.getTypeHandle(getComponents,
+                    org.jboss.jandex.Type.create(entry.getKey(), org.jboss.jandex.Type.Kind.CLASS));
+            getComponents.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, dispatchersHandle, eventTypeHandle,
+                    getComponents.newInstance(MethodDescriptor.ofConstructor(entry.getValue())));
+        }
+
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class, Supplier.class, Map.class, Set.class),
+                        Map.class, Supplier.class, Map.class, Set.class, Collection.class, Map.class),
                 beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, removedBeansSupplier.getInstance(),
-                qualifiersNonbindingMembers, qualifiers);
+                qualifiersNonbindingMembers, qualifiers, resolutionsHandle, dispatchersHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -290,6 +311,80 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processResolutions(ClassCreator componentsProvider, BytecodeCreator targetMethod,
+            ResultHandle resolutionsHandle, ResultHandle typeCacheHandle, BeanDeployment beanDeployment) {
+        try (ResolutionAdder resolutionAdder = new ResolutionAdder(componentsProvider, targetMethod, resolutionsHandle,
+                typeCacheHandle, beanDeployment)) {
+            // Programmatic lookup - the resolution is performed at runtime when Instance#get() etc. is called
+            Set<Resolution> processed = new HashSet<>();
+            for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+                if (!injectionPoint.isProgrammaticLookup() || injectionPoint.isDelegate()) {
+                    continue;
+                }
+                org.jboss.jandex.Type requiredType = injectionPoint.getRequiredType();
+                if (!isPrecomputable(requiredType)) {
+                    continue;
+                }
+                Resolution resolution = new Resolution(requiredType, injectionPoint.getRequiredQualifiers(), null);
+                if (processed.add(resolution)) {
+                    resolution.beans = new ArrayList<>(
+                            beanDeployment.getBeanResolver().resolveBeans(requiredType,
+                                    injectionPoint.getRequiredQualifiers()));
+                    // Make the generated bytecode deterministic
+                    resolution.beans.sort(Comparator.comparing(BeanInfo::getIdentifier));
+                    resolutionAdder.addComponent(resolution);
+                }
+            }
+            // Name resolution, e.g. for EL expressions or ArcContainer#instance(String)
+            Map<String, List<BeanInfo>> namedBeans = new TreeMap<>();
+            for (BeanInfo bean : beanDeployment.getBeans()) {
+                if (bean.getName() != null) {
+                    namedBeans.computeIfAbsent(bean.getName(), k -> new ArrayList<>()).add(bean);
+                }
+            }
+            for (Entry<String, List<BeanInfo>> entry : namedBeans.entrySet()) {
+                Resolution resolution = new Resolution(null, null, entry.getKey());
+                resolution.beans = entry.getValue();
+                resolutionAdder.addComponent(resolution);
+            }
+        }
+    }
+
+    /**
+     * The built-in beans registered at runtime (e.g. {@code BeanManager}) are not known at build time. Type variables and
+     * wildcards are skipped because the type handle created at runtime is not equal to the type obtained via
+     * {@code TypeLiteral}, i.e. the precomputed result could never be used.
+     *
+     * @param requiredType
+     * @return {@code true} if the result of typesafe resolution for the given type can be computed at build time
+     */
+    private static boolean isPrecomputable(org.jboss.jandex.Type requiredType) {
+        switch (requiredType.kind()) {
+            case CLASS:
+                return !RUNTIME_BUILTIN_TYPES.contains(requiredType.name());
+            case ARRAY:
+                org.jboss.jandex.Type component = requiredType.asArrayType().component();
+                return component.kind() == org.jboss.jandex.Type.Kind.CLASS
+                        || component.kind() == org.jboss.jandex.Type.Kind.PRIMITIVE;
+            case PARAMETERIZED_TYPE:
+                if (RUNTIME_BUILTIN_TYPES.contains(requiredType.name())) {
+                    return false;
+                }
+                for (org.jboss.jandex.Type argument : requiredType.asParameterizedType().arguments()) {
+                    if (argument.kind() != org.jboss.jandex.Type.Kind.CLASS && !isPrecomputable(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final Set<DotName> RUNTIME_BUILTIN_TYPES = Set.of(DotNames.OBJECT, DotNames.BEAN_MANAGER,
+            DotName.createSimple(BeanContainer.class.getName()), DotNames.EVENT, DotNames.INJECTABLE_EVENT,
+            DotNames.INSTANCE, DotNames.INJECTABLE_INSTANCE, DotNames.PROVIDER, DotNames.INJECTION_POINT);
+
     private Map<BeanInfo, List<BeanInfo>> initBeanToInjections(BeanDeployment beanDeployment) {
         Function<BeanInfo, List<BeanInfo>> computeNewArrayFun = new Function<BeanInfo, List<BeanInfo>>() {
 
@@ -584,6 +679,150 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
+    class ResolutionAdder extends ComponentAdder<Resolution> {
+
+        private final ResultHandle resolutionsHandle;
+        private final ResultHandle typeCacheHandle;
+        private final BeanDeployment beanDeployment;
+        private ResultHandle tccl;
+        // Shared annotation literals for an individual addResolutionsX() method
+        private final Map<AnnotationInstanceKey, ResultHandle> sharedQualifers;
+
+        private final MapTypeCache typeCache;
+
+        ResolutionAdder(ClassCreator componentsProvider, BytecodeCreator targetMethod, ResultHandle resolutionsHandle,
+                ResultHandle typeCacheHandle, BeanDeployment beanDeployment) {
+            super(targetMethod, componentsProvider);
+            this.resolutionsHandle = resolutionsHandle;
+            this.typeCacheHandle = typeCacheHandle;
+            this.beanDeployment = beanDeployment;
+            this.sharedQualifers = new HashMap<>();
+            this.typeCache = new MapTypeCache();
+        }
+
+        @Override
+        MethodCreator newAddMethod() {
+            // Clear the shared maps for each addResolutionsX() method
+            sharedQualifers.clear();
+
+            // static void addResolutions1(List resolutions, Map typeCache)
+            MethodCreator addMethod = componentsProvider
+                    .getMethodCreator(ADD_RESOLUTIONS + group++, void.class, List.class, Map.class)
+                    .setModifiers(ACC_PRIVATE | ACC_STATIC);
+            // Get the TCCL - we will use it later
+            ResultHandle currentThread = addMethod
+                    .invokeStaticMethod(MethodDescriptors.THREAD_CURRENT_THREAD);
+            tccl = addMethod.invokeVirtualMethod(MethodDescriptors.THREAD_GET_TCCL, currentThread);
+
+            typeCache.initialize(addMethod);
+
+            return addMethod;
+        }
+
+        @Override
+        void invokeAddMethod() {
+            targetMethod.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                            addMethod.getMethodDescriptor().getName(), void.class, List.class, Map.class),
+                    resolutionsHandle, typeCacheHandle);
+        }
+
+        @Override
+        void addComponentInternal(Resolution resolution) {
+            ResultHandle resolutionsHandle = addMethod.getMethodParam(0);
+
+            ResultHandle beanIdsHandle = addMethod.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+            for (BeanInfo bean : resolution.beans) {
+                addMethod.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, beanIdsHandle,
+                        addMethod.load(bean.getIdentifier()));
+            }
+
+            ResultHandle resolutionHandle;
+            if (resolution.name != null) {
+                resolutionHandle = addMethod.newInstance(MethodDescriptors.PRECOMPUTED_RESOLUTION_NAME,
+                        addMethod.load(resolution.name), beanIdsHandle);
+            } else {
+                AssignableResultHandle typeHandle = addMethod.createVariable(Object.class);
+                try {
+                    Types.getTypeHandle(typeHandle, addMethod, resolution.requiredType, tccl, typeCache);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException(
+                            "Unable to construct the type handle for " + resolution.requiredType + ": " + e.getMessage());
+                }
+                ResultHandle qualifiersHandle = addMethod.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+                for (AnnotationInstance qualifierAnnotation : resolution.qualifiers) {
+                    BuiltinQualifier qualifier = BuiltinQualifier.of(qualifierAnnotation);
+                    if (qualifier != null) {
+                        // Use the literal instance for built-in qualifiers
+                        addMethod.invokeInterfaceMethod(MethodDescriptors.SET_ADD, qualifiersHandle,
+                                qualifier.getLiteralInstance(addMethod));
+                    } else {
+                        AnnotationInstanceKey key = new AnnotationInstanceKey(qualifierAnnotation);
+                        ResultHandle qualifierHandle = sharedQualifers.get(key);
+                        if (qualifierHandle == null) {
+                            // Create annotation literal first
+                            ClassInfo qualifierClass = beanDeployment.getQualifier(qualifierAnnotation.name());
+                            qualifierHandle = annotationLiterals.create(addMethod, qualifierClass, qualifierAnnotation);
+                            sharedQualifers.put(key, qualifierHandle);
+                        }
+                        addMethod.invokeInterfaceMethod(MethodDescriptors.SET_ADD, qualifiersHandle, qualifierHandle);
+                    }
+                }
+                resolutionHandle = addMethod.newInstance(MethodDescriptors.PRECOMPUTED_RESOLUTION_TYPE, typeHandle,
+                        qualifiersHandle, beanIdsHandle);
+            }
+            addMethod.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, resolutionsHandle, resolutionHandle);
+        }
+
+    }
+
+    /**
+     * Represents either a typesafe resolution or a name resolution performed at build time.
+     */
+    static final class Resolution {
+
+        final org.jboss.jandex.Type requiredType;
+        final Set<AnnotationInstance> qualifiers;
+        final String name;
+        // This field is not part of the identity
+        List<BeanInfo> beans;
+
+        private final Set<AnnotationInstanceKey> qualifierKeys;
+
+        Resolution(org.jboss.jandex.Type requiredType, Set<AnnotationInstance> qualifiers, String name) {
+            this.requiredType = requiredType;
+            this.qualifiers = qualifiers;
+            this.name = name;
+            if (qualifiers != null) {
+                this.qualifierKeys = new HashSet<>();
+                for (AnnotationInstance qualifier : qualifiers) {
+                    qualifierKeys.add(new AnnotationInstanceKey(qualifier));
+                }
+            } else {
+                this.qualifierKeys = null;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requiredType, qualifierKeys, name);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Resolution other = (Resolution) obj;
+            return Objects.equals(requiredType, other.requiredType) && Objects.equals(qualifierKeys, other.qualifierKeys)
+                    && Objects.equals(name, other.name);
+        }
+
+    }
+
     static class MapTypeCache implements Types.TypeCache {
 
         private ResultHandle mapHandle;
@@ -716,7 +955,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
-    static abstract class ComponentAdder<T extends InjectionTargetInfo> implements AutoCloseable {
+    static abstract class ComponentAdder<T> implements AutoCloseable {
 
         private static final int GROUP_LIMIT = 30;
         protected int group;
@@ -58,6 +58,7 @@ import io.quarkus.arc.AlternativePriority;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableEvent;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.NoClassInterceptors;
@@ -99,6 +100,7 @@ public final class DotNames {
     public static final DotName INJECTABLE_BEAN = create(InjectableBean.class);
     public static final DotName BEAN_MANAGER = create(BeanManager.class);
     public static final DotName EVENT = create(Event.class);
+    public static final DotName INJECTABLE_EVENT = create(InjectableEvent.class);
     public static final DotName EVENT_METADATA = create(EventMetadata.class);
     public static final DotName ALTERNATIVE = create(Alternative.class);
     public static final DotName ALTERNATIVE_PRIORITY = create(AlternativePriority.class);
@@ -0,0 +1,333 @@
+package io.quarkus.arc.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.jandex.MethodInfo;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.BasicInterpreter;
+import org.objectweb.asm.tree.analysis.BasicValue;
+import org.objectweb.asm.tree.analysis.Interpreter;
+import org.objectweb.asm.tree.analysis.Value;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.gizmo.MethodDescriptor;
+
+/**
+ * Analyzes the bytecode of an {@code @AroundInvoke} method to find out whether the {@link InvocationContext} may escape the
+ * method, i.e. whether it may be used after the interceptor method returned.
+ * <p>
+ * The analysis is conservative. The invocation context may only be used as the receiver of an {@link InvocationContext}
+ * method, e.g. {@code ctx.proceed()}, the receiver of {@code getClass()}, {@code hashCode()} and {@code toString()}, the
+ * operand of {@code instanceof}, a null check or a reference comparison, an argument of
+ * {@link ArcInvocationContext#findIterceptorBinding(InvocationContext, Class)} and
+ * {@link ArcInvocationContext#findIterceptorBindings(InvocationContext, Class)}, and an argument of a private or static method
+ * declared on the same class that satisfies the same rules. Any other use, e.g. a lambda or a method reference that captures
+ * the context, a constructor argument of an anonymous class, a field, an array, a collection or a method of another class,
+ * is considered an escape. If the bytecode cannot be read or analyzed, the context is also considered to escape.
+ */
+final class InvocationContextEscapeAnalysis {
+
+    private static final Logger LOGGER = Logger.getLogger(InvocationContextEscapeAnalysis.class);
+
+    private static final String INVOCATION_CONTEXT = Type.getInternalName(InvocationContext.class);
+    private static final String ARC_INVOCATION_CONTEXT = Type.getInternalName(ArcInvocationContext.class);
+    private static final Set<String> OBJECT_METHODS = Set.of("getClass", "hashCode", "toString");
+
+    private InvocationContextEscapeAnalysis() {
+    }
+
+    /**
+     *
+     * @param aroundInvoke
+     * @return {@code true} if the invocation context may escape the given interceptor method
+     */
+    static boolean mayEscape(MethodInfo aroundInvoke) {
+        String className = aroundInvoke.declaringClass().name().toString();
+        ClassNode clazz = readClass(className);
+        if (clazz == null) {
+            LOGGER.debugf("Unable to read the bytecode of %s; the invocation context is considered to escape", className);
+            return true;
+        }
+        String descriptor = MethodDescriptor.of(aroundInvoke).getDescriptor();
+        for (MethodNode method : clazz.methods) {
+            if (method.name.equals(aroundInvoke.name()) && method.desc.equals(descriptor)) {
+                try {
+                    return new Analysis(clazz).mayEscape(method, Set.of(1), new HashSet<>());
+                } catch (AnalyzerException e) {
+                    LOGGER.debugf(e, "Unable to analyze %s#%s; the invocation context is considered to escape", className,
+                            aroundInvoke.name());
+                    return true;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static ClassNode readClass(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        for (ClassLoader classLoader : new ClassLoader[] { tccl, InvocationContextEscapeAnalysis.class.getClassLoader() }) {
+            if (classLoader == null) {
+                continue;
+            }
+            try (InputStream stream = classLoader.getResourceAsStream(resource)) {
+                if (stream != null) {
+                    ClassNode clazz = new ClassNode();
+                    new ClassReader(stream).accept(clazz, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                    return clazz;
+                }
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to read %s", resource);
+            }
+        }
+        return null;
+    }
+
+    private static final class Analysis {
+
+        private final ClassNode clazz;
+
+        Analysis(ClassNode clazz) {
+            this.clazz = clazz;
+        }
+
+        /**
+         *
+         * @param method
+         * @param contextSlots the local variable slots of the parameters that hold the invocation context
+         * @param visited the methods analyzed so far; used to avoid infinite recursion
+         * @return {@code true} if the invocation context may escape
+         */
+        boolean mayEscape(MethodNode method, Set<Integer> contextSlots, Set<String> visited) throws AnalyzerException {
+            if (!visited.add(method.name + method.desc + contextSlots)) {
+                return false;
+            }
+            if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0) {
+                return true;
+            }
+            ContextInterpreter interpreter = new ContextInterpreter(contextSlots, visited);
+            new Analyzer<>(interpreter).analyze(clazz.name, method);
+            return interpreter.escapes;
+        }
+
+        private MethodNode findLocalMethod(MethodInsnNode insn) {
+            if (!insn.owner.equals(clazz.name)) {
+                return null;
+            }
+            for (MethodNode method : clazz.methods) {
+                if (method.name.equals(insn.name) && method.desc.equals(insn.desc)
+                        && (method.access & (Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC)) != 0) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        private final class ContextInterpreter extends Interpreter<ContextValue> {
+
+            private final BasicInterpreter basic = new BasicInterpreter();
+            private final Set<Integer> contextSlots;
+            private final Set<String> visited;
+            boolean escapes;
+
+            ContextInterpreter(Set<Integer> contextSlots, Set<String> visited) {
+                super(Opcodes.ASM9);
+                this.contextSlots = contextSlots;
+                this.visited = visited;
+            }
+
+            @Override
+            public ContextValue newValue(Type type) {
+                if (type == Type.VOID_TYPE) {
+                    return null;
+                }
+                return type == null ? ContextValue.SINGLE : ContextValue.of(type.getSize(), false);
+            }
+
+            @Override
+            public ContextValue newParameterValue(boolean isInstanceMethod, int local, Type type) {
+                return ContextValue.of(type.getSize(), contextSlots.contains(local));
+            }
+
+            @Override
+            public ContextValue newOperation(AbstractInsnNode insn) throws AnalyzerException {
+                return wrap(basic.newOperation(insn));
+            }
+
+            @Override
+            public ContextValue copyOperation(AbstractInsnNode insn, ContextValue value) {
+                // Loads, stores and stack manipulation; the value is still tracked
+                return value;
+            }
+
+            @Override
+            public ContextValue unaryOperation(AbstractInsnNode insn, ContextValue value) throws AnalyzerException {
+                if (value.context) {
+                    switch (insn.getOpcode()) {
+                        case Opcodes.CHECKCAST:
+                            return value;
+                        case Opcodes.INSTANCEOF:
+                        case Opcodes.IFNULL:
+                        case Opcodes.IFNONNULL:
+                            break;
+                        default:
+                            escapes = true;
+                    }
+                }
+                return wrap(basic.unaryOperation(insn, unwrap(value)));
+            }
+
+            @Override
+            public ContextValue binaryOperation(AbstractInsnNode insn, ContextValue value1, ContextValue value2)
+                    throws AnalyzerException {
+                if ((value1.context || value2.context)
+                        && insn.getOpcode() != Opcodes.IF_ACMPEQ && insn.getOpcode() != Opcodes.IF_ACMPNE) {
+                    escapes = true;
+                }
+                return wrap(basic.binaryOperation(insn, unwrap(value1), unwrap(value2)));
+            }
+
+            @Override
+            public ContextValue ternaryOperation(AbstractInsnNode insn, ContextValue value1, ContextValue value2,
+                    ContextValue value3) {
+                if (value1.context || value2.context || value3.context) {
+                    escapes = true;
+                }
+                return null;
+            }
+
+            @Override
+            public ContextValue naryOperation(AbstractInsnNode insn, List<? extends ContextValue> values)
+                    throws AnalyzerException {
+                // The local variable slots of the invoked method that hold the context
+                Set<Integer> slots = null;
+                boolean receiver = false;
+                int slot = 0;
+                for (int i = 0; i < values.size(); i++) {
+                    ContextValue value = values.get(i);
+                    if (value.context && !isAllowed(insn, i)) {
+                        if (slots == null) {
+                            slots = new HashSet<>();
+                        }
+                        slots.add(slot);
+                        receiver |= i == 0 && insn.getOpcode() != Opcodes.INVOKESTATIC;
+                    }
+                    slot += value.size;
+                }
+                if (slots != null && !escapes) {
+                    // The context may be passed to a method of the same class
+                    MethodNode local = insn instanceof MethodInsnNode && !receiver
+                            ? findLocalMethod((MethodInsnNode) insn)
+                            : null;
+                    if (local == null || mayEscape(local, slots, visited)) {
+                        escapes = true;
+                    }
+                }
+                return wrap(basic.naryOperation(insn, null));
+            }
+
+            private boolean isAllowed(AbstractInsnNode insn, int index) {
+                if (!(insn instanceof MethodInsnNode)) {
+                    // E.g. invokedynamic
+                    return false;
+                }
+                MethodInsnNode methodInsn = (MethodInsnNode) insn;
+                if (index == 0 && methodInsn.getOpcode() != Opcodes.INVOKESTATIC) {
+                    // The receiver
+                    return methodInsn.owner.equals(INVOCATION_CONTEXT) || methodInsn.owner.equals(ARC_INVOCATION_CONTEXT)
+                            || OBJECT_METHODS.contains(methodInsn.name);
+                }
+                return methodInsn.getOpcode() == Opcodes.INVOKESTATIC
+                        && methodInsn.owner.equals(ARC_INVOCATION_CONTEXT)
+                        && methodInsn.name.startsWith("findIterceptorBinding");
+            }
+
+            @Override
+            public void returnOperation(AbstractInsnNode insn, ContextValue value, ContextValue expected) {
+                if (value.context) {
+                    escapes = true;
+                }
+            }
+
+            @Override
+            public ContextValue merge(ContextValue value1, ContextValue value2) {
+                if (value1.equals(value2)) {
+                    return value1;
+                }
+                return ContextValue.of(value1.size == value2.size ? value1.size : 1, value1.context || value2.context);
+            }
+
+            private ContextValue wrap(BasicValue value) {
+                return value == null ? null : ContextValue.of(value.getSize(), false);
+            }
+
+            private BasicValue unwrap(ContextValue value) {
+                return value.size == 2 ? BasicValue.LONG_VALUE : BasicValue.REFERENCE_VALUE;
+            }
+
+        }
+
+    }
+
+    private static final class ContextValue implements Value {
+
+        static final ContextValue SINGLE = new ContextValue(1, false);
+        static final ContextValue DOUBLE = new ContextValue(2, false);
+        static final ContextValue CONTEXT = new ContextValue(1, true);
+
+        static ContextValue of(int size, boolean context) {
+            if (context) {
+                return CONTEXT;
+            }
+            return size == 2 ? DOUBLE : SINGLE;
+        }
+
+        final int size;
+        final boolean context;
+
+        private ContextValue(int size, boolean context) {
+            this.size = size;
+            this.context = context;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, context);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ContextValue)) {
+                return false;
+            }
+            ContextValue other = (ContextValue) obj;
+            return size == other.size && context == other.context;
+        }
+
+    }
+
+}
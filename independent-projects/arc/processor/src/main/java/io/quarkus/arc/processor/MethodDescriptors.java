@@ -17,6 +17,7 @@ import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.EventContext;
 import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.enterprise.inject.spi.InterceptionType;
 import jakarta.interceptor.InvocationContext;
 
 import io.quarkus.arc.Arc;
@@ -29,8 +30,10 @@ import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
+import io.quarkus.arc.impl.DirectAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.FixedValueSupplier;
 import io.quarkus.arc.impl.InjectableReferenceProviders;
 import io.quarkus.arc.impl.Instances;
@@ -38,6 +41,8 @@ import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.impl.InterceptorInvocation;
 import io.quarkus.arc.impl.InvocationContexts;
 import io.quarkus.arc.impl.MapValueSupplier;
+import io.quarkus.arc.impl.PrecomputedResolution;
+import io.quarkus.arc.impl.ReactiveType;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
 import io.quarkus.arc.impl.Sets;
@@ -164,8 +169,21 @@ public final class MethodDescriptors {
     public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performAroundInvoke",
-            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
-            Set.class);
+            Object.class, Object.class, InterceptedMethodMetadata.class, Function.class, Object[].class);
+
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_SYNC_AROUND_INVOKE = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performSyncAroundInvoke",
+            Object.class, Object.class, InterceptedMethodMetadata.class, Function.class, Object[].class);
+
+    public static final MethodDescriptor DIRECT_AROUND_INVOKE_CTX_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            DirectAroundInvokeInvocationContext.class,
+            Object.class, InterceptedMethodMetadata.class, Function.class, Object[].class);
+
+    public static final MethodDescriptor INJECTABLE_INTERCEPTOR_INTERCEPT = MethodDescriptor.ofMethod(
+            InjectableInterceptor.class,
+            "intercept",
+            Object.class, InterceptionType.class, Object.class, InvocationContext.class);
 
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
@@ -205,6 +223,9 @@ public final class MethodDescriptors {
             "singletonList",
             List.class, Object.class);
 
+    public static final MethodDescriptor COLLECTIONS_EMPTY_LIST = MethodDescriptor.ofMethod(Collections.class, "emptyList",
+            List.class);
+
     public static final MethodDescriptor COLLECTIONS_EMPTY_MAP = MethodDescriptor.ofMethod(Collections.class, "emptyMap",
             Map.class);
 
@@ -230,7 +251,11 @@ public final class MethodDescriptors {
 
     public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_CONSTRUCTOR = MethodDescriptor.ofConstructor(
             InterceptedMethodMetadata.class,
-            List.class, Method.class, Set.class);
+            List.class, Method.class, Set.class, ReactiveType.class);
+
+    public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_SHARED_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            InterceptedMethodMetadata.class,
+            List.class, InterceptedMethodMetadata.class);
 
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
@@ -252,6 +277,15 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandleImpl.class, InjectableContext.class, InjectableBean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_IS_VALID = MethodDescriptor
+            .ofMethod(ContextInstanceHandleImpl.class, "isValid", boolean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_GET = MethodDescriptor
+            .ofMethod(ContextInstanceHandleImpl.class, "get", Object.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
@@ -280,6 +314,12 @@ public final class MethodDescriptors {
             "toString", String.class,
             InjectableBean.class);
 
+    public static final MethodDescriptor PRECOMPUTED_RESOLUTION_TYPE = MethodDescriptor.ofConstructor(
+            PrecomputedResolution.class, Type.class, Set.class, List.class);
+
+    public static final MethodDescriptor PRECOMPUTED_RESOLUTION_NAME = MethodDescriptor.ofConstructor(
+            PrecomputedResolution.class, String.class, List.class);
+
     private MethodDescriptors() {
     }
 
@@ -0,0 +1,227 @@
+package io.quarkus.arc.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+
+import io.quarkus.arc.impl.ObserverDispatcher;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates an {@link ObserverDispatcher} for each event type known at build time, i.e. for each class observed by a
+ * synchronous observer, if at least two observers would be notified for an event of this type fired without qualifiers.
+ *
+ * @see ObserverDispatcher
+ */
+public class ObserverDispatcherGenerator extends AbstractGenerator {
+
+    static final String DISPATCHER_SUFFIX = "_ObserverDispatcher";
+
+    private final Map<ObserverInfo, String> observerToGeneratedName;
+    private final boolean mockable;
+    // Event type -> observers notified in the order of their priorities
+    private final Map<DotName, List<ObserverInfo>> eventToObservers;
+    private final Map<DotName, String> eventToGeneratedName;
+
+    ObserverDispatcherGenerator(boolean generateSources, Map<ObserverInfo, String> observerToGeneratedName,
+            boolean mockable) {
+        super(generateSources);
+        this.observerToGeneratedName = observerToGeneratedName;
+        this.mockable = mockable;
+        this.eventToObservers = new TreeMap<>();
+        this.eventToGeneratedName = new TreeMap<>();
+    }
+
+    /**
+     * Precompute the dispatchers so that the {@link ComponentsProviderGenerator} can be executed before the dispatchers are
+     * generated. The generated names of observers must be precomputed first.
+     *
+     * @param name
+     * @param beanDeployment
+     * @return a map of event types to generated dispatcher names
+     */
+    Map<DotName, String> precomputeDispatchers(String name, BeanDeployment beanDeployment) {
+        Collection<ObserverInfo> observers = beanDeployment.getObservers();
+        Set<DotName> eventTypes = new TreeSet<>();
+        for (ObserverInfo observer : observers) {
+            if (!observer.isAsync()
+                    && observer.getObservedType().kind() == Kind.CLASS
+                    && !observer.getObservedType().name().equals(DotNames.OBJECT)) {
+                eventTypes.add(observer.getObservedType().name());
+            }
+        }
+        for (DotName eventType : eventTypes) {
+            List<ObserverInfo> matching = findObservers(eventType, observers, beanDeployment.getBeanArchiveIndex());
+            if (matching != null && matching.size() > 1) {
+                eventToObservers.put(eventType, matching);
+                eventToGeneratedName.put(eventType, ComponentsProviderGenerator.SETUP_PACKAGE + "." + name + UNDERSCORE
+                        + DotNames.simpleName(eventType) + DISPATCHER_SUFFIX + UNDERSCORE
+                        + Hashes.sha1(eventType.toString()));
+            }
+        }
+        return Collections.unmodifiableMap(eventToGeneratedName);
+    }
+
+    /**
+     *
+     * @return a collection of resources
+     */
+    Collection<Resource> generate() {
+        // Dispatchers reference the generated observers and are instantiated by the generated _ComponentsProvider
+        ResourceClassOutput classOutput = new ResourceClassOutput(true, generateSources);
+        for (Map.Entry<DotName, List<ObserverInfo>> entry : eventToObservers.entrySet()) {
+            generate(classOutput, eventToGeneratedName.get(entry.getKey()), entry.getValue());
+        }
+        return classOutput.getResources();
+    }
+
+    private void generate(ResourceClassOutput classOutput, String generatedName, List<ObserverInfo> observers) {
+        ClassCreator dispatcherCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .superClass(ObserverDispatcher.class).setFinal(true).build();
+
+        // Foo_ObserverDispatcher() { super(new Class[] { Foo_Observer_alpha.class, Bar_Observer_bravo.class }); }
+        MethodCreator constructor = dispatcherCreator.getMethodCreator(Methods.INIT, void.class);
+        ResultHandle observerClasses = constructor.newArray(Class.class, observers.size());
+        for (int i = 0; i < observers.size(); i++) {
+            constructor.writeArrayValue(observerClasses, i,
+                    constructor.loadClass(observerToGeneratedName.get(observers.get(i))));
+        }
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(ObserverDispatcher.class, Class[].class),
+                constructor.getThis(), observerClasses);
+        constructor.returnValue(null);
+
+        // Declaring beans with multiple observers
+        Map<BeanInfo, Integer> sharedInstances = new HashMap<>();
+        for (ObserverInfo observer : observers) {
+            if (ObserverGenerator.sharesDeclaringBeanInstance(observer, mockable)) {
+                sharedInstances.merge(observer.getDeclaringBean(), 1, Integer::sum);
+            }
+        }
+
+        MethodCreator dispatch = dispatcherCreator
+                .getMethodCreator("dispatch", void.class, EventContext.class, ObserverMethod[].class)
+                .setModifiers(ACC_PROTECTED);
+        ResultHandle eventContext = dispatch.getMethodParam(0);
+        Map<BeanInfo, AssignableResultHandle> instances = new HashMap<>();
+        for (int i = 0; i < observers.size(); i++) {
+            ObserverInfo observer = observers.get(i);
+            String observerClass = observerToGeneratedName.get(observer);
+            ResultHandle observerHandle = dispatch.checkCast(dispatch.readArrayValue(dispatch.getMethodParam(1), i),
+                    observerClass);
+            if (sharedInstances.getOrDefault(observer.getDeclaringBean(), 0) > 1
+                    && ObserverGenerator.sharesDeclaringBeanInstance(observer, mockable)) {
+                // The contextual instance is obtained before the first observer declared on the bean is notified
+                AssignableResultHandle instance = instances.get(observer.getDeclaringBean());
+                if (instance == null) {
+                    instance = dispatch.createVariable(Object.class);
+                    dispatch.assign(instance, dispatch.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(observerClass, ObserverGenerator.GET_DECLARING_BEAN_INSTANCE,
+                                    Object.class),
+                            observerHandle));
+                    instances.put(observer.getDeclaringBean(), instance);
+                }
+                dispatch.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(observerClass, "notify", void.class, EventContext.class, Object.class),
+                        observerHandle, eventContext, instance);
+            } else {
+                dispatch.invokeVirtualMethod(MethodDescriptor.ofMethod(observerClass, "notify", void.class,
+                        EventContext.class), observerHandle, eventContext);
+            }
+        }
+        dispatch.returnValue(null);
+
+        dispatcherCreator.close();
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param observers
+     * @param index
+     * @return the sync observers notified for an event of the given type fired without qualifiers, sorted by priority, or
+     *         {@code null} if no dispatcher can be used
+     */
+    private List<ObserverInfo> findObservers(DotName eventType, Collection<ObserverInfo> observers, IndexView index) {
+        Set<DotName> eventTypeClosure = typeClosure(eventType, index);
+        List<ObserverInfo> matching = new ArrayList<>();
+        for (ObserverInfo observer : observers) {
+            Type observedType = observer.getObservedType();
+            // Observers of parameterized types etc. are not considered; see ObserverDispatcher#matches()
+            if (observedType.kind() != Kind.CLASS
+                    || !eventTypeClosure.contains(observedType.name())
+                    || !hasNoQualifiers(observer)
+                    || observer.isAsync()) {
+                continue;
+            }
+            if (observer.getTransactionPhase() != TransactionPhase.IN_PROGRESS) {
+                // Transactional observers are always notified through the notifier
+                return null;
+            }
+            matching.add(observer);
+        }
+        // Observers with smaller priority values are called first; the sort is stable
+        matching.sort(Comparator.comparingInt(ObserverInfo::getPriority));
+        return matching;
+    }
+
+    private static boolean hasNoQualifiers(ObserverInfo observer) {
+        for (AnnotationInstance qualifier : observer.getQualifiers()) {
+            if (!qualifier.name().equals(DotNames.ANY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<DotName> typeClosure(DotName eventType, IndexView index) {
+        Set<DotName> closure = new HashSet<>();
+        closure.add(DotNames.OBJECT);
+        Deque<DotName> queue = new ArrayDeque<>();
+        queue.add(eventType);
+        while (!queue.isEmpty()) {
+            DotName name = queue.poll();
+            if (!closure.add(name)) {
+                continue;
+            }
+            ClassInfo clazz = IndexClassLookupUtils.getClassByName(index, name, false);
+            if (clazz == null) {
+                // Not indexed, e.g. java.lang.String
+                continue;
+            }
+            if (clazz.superName() != null) {
+                queue.add(clazz.superName());
+            }
+            queue.addAll(clazz.interfaceNames());
+        }
+        return closure;
+    }
+
+}
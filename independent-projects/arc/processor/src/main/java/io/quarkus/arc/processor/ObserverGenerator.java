@@ -64,6 +64,7 @@ public class ObserverGenerator extends AbstractGenerator {
     static final String OBSERVERVED_TYPE = "observedType";
     static final String QUALIFIERS = "qualifiers";
     static final String DECLARING_PROVIDER_SUPPLIER = "declaringProviderSupplier";
+    static final String GET_DECLARING_BEAN_INSTANCE = "getDeclaringBeanInstance";
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final Predicate<DotName> applicationClassPredicate;
@@ -73,12 +74,13 @@ public class ObserverGenerator extends AbstractGenerator {
     private final Map<ObserverInfo, String> observerToGeneratedBaseName;
     private final Predicate<DotName> injectionPointAnnotationsPredicate;
     private final boolean mockable;
+    private final boolean skipRequestContextActivation;
     private final ConcurrentMap<String, ObserverInfo> generatedClasses;
 
     public ObserverGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<ObserverInfo, String> observerToGeneratedName,
-            Predicate<DotName> injectionPointAnnotationsPredicate, boolean mockable) {
+            Predicate<DotName> injectionPointAnnotationsPredicate, boolean mockable, boolean skipRequestContextActivation) {
         super(generateSources, reflectionRegistration);
         this.annotationLiterals = annotationLiterals;
         this.applicationClassPredicate = applicationClassPredicate;
@@ -88,6 +90,7 @@ public class ObserverGenerator extends AbstractGenerator {
         this.observerToGeneratedBaseName = new HashMap<>();
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.mockable = mockable;
+        this.skipRequestContextActivation = skipRequestContextActivation;
         this.generatedClasses = new ConcurrentHashMap<>();
     }
 
@@ -233,6 +236,9 @@ public class ObserverGenerator extends AbstractGenerator {
             implementIsAsync(observerCreator);
         }
         implementGetDeclaringBeanIdentifier(observerCreator, observer.getDeclaringBean());
+        if (skipRequestContextActivation && !observer.isRequestContextRequired()) {
+            implementIsRequestContextRequired(observerCreator);
+        }
 
         if (mockable) {
             implementMockMethods(observerCreator);
@@ -292,6 +298,12 @@ public class ObserverGenerator extends AbstractGenerator {
         isAsync.returnValue(isAsync.load(true));
     }
 
+    protected void implementIsRequestContextRequired(ClassCreator observerCreator) {
+        MethodCreator isRequestContextRequired = observerCreator.getMethodCreator("isRequestContextRequired", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isRequestContextRequired.returnValue(isRequestContextRequired.load(false));
+    }
+
     protected void implementGetDeclaringBeanIdentifier(ClassCreator observerCreator, BeanInfo declaringBean) {
         MethodCreator getDeclaringBeanIdentifier = observerCreator.getMethodCreator("getDeclaringBeanIdentifier", String.class)
                 .setModifiers(ACC_PUBLIC);
@@ -346,16 +358,34 @@ public class ObserverGenerator extends AbstractGenerator {
             return;
         }
 
+        if (sharesDeclaringBeanInstance(observer, mockable)) {
+            // Object getDeclaringBeanInstance() - obtains the contextual instance of the declaring bean
+            MethodCreator getDeclaringBeanInstance = observerCreator
+                    .getMethodCreator(GET_DECLARING_BEAN_INSTANCE, Object.class).setModifiers(ACC_PUBLIC);
+            getDeclaringBeanInstance.returnValue(getContextualInstance(getDeclaringBeanInstance, observerCreator, observer));
+
+            // void notify(EventContext, Object) - notifies the observer using the given declaring bean instance
+            MethodCreator notifyInstance = observerCreator
+                    .getMethodCreator("notify", void.class, EventContext.class, Object.class).setModifiers(ACC_PUBLIC);
+            invokeObserverMethod(observer, observerCreator, notifyInstance, notifyInstance.getMethodParam(1),
+                    injectionPointToProviderField, reflectionRegistration, isApplicationClass);
+            notifyInstance.returnValue(null);
+
+            ResultHandle instance = notify.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(observerCreator.getClassName(), GET_DECLARING_BEAN_INSTANCE, Object.class),
+                    notify.getThis());
+            notify.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(observerCreator.getClassName(), "notify", void.class, EventContext.class,
+                            Object.class),
+                    notify.getThis(), notify.getMethodParam(0), instance);
+            notify.returnValue(null);
+            return;
+        }
+
         boolean isStatic = Modifier.isStatic(observer.getObserverMethod().flags());
-        // It is safe to skip CreationalContext.release() for observers with noor normal scoped declaring provider, and
-        boolean skipRelease = observer.getInjection().injectionPoints.isEmpty();
 
         // Declaring bean instance, may be null
         AssignableResultHandle declaringProviderInstanceHandle = notify.createVariable(Object.class);
-        // This CreationalContext is used for @Dependent instances injected into method parameters
-        ResultHandle ctxHandle = skipRelease ? notify.loadNull()
-                : notify.newInstance(MethodDescriptor.ofConstructor(CreationalContextImpl.class, Contextual.class),
-                        notify.loadNull());
         AssignableResultHandle declaringProviderCtx = notify.createVariable(CreationalContextImpl.class);
 
         ResultHandle declaringProviderHandle;
@@ -363,12 +393,7 @@ public class ObserverGenerator extends AbstractGenerator {
             // For static observers we don't need to obtain the contextual instance of the bean which declares the observer
             declaringProviderHandle = notify.loadNull();
         } else {
-            ResultHandle declaringProviderSupplierHandle = notify.readInstanceField(
-                    FieldDescriptor.of(observerCreator.getClassName(), DECLARING_PROVIDER_SUPPLIER,
-                            Supplier.class.getName()),
-                    notify.getThis());
-            declaringProviderHandle = notify.invokeInterfaceMethod(
-                    MethodDescriptors.SUPPLIER_GET, declaringProviderSupplierHandle);
+            declaringProviderHandle = getDeclaringProvider(notify, observerCreator);
         }
 
         if (isStatic) {
@@ -399,26 +424,82 @@ public class ObserverGenerator extends AbstractGenerator {
                         MethodDescriptors.INJECTABLE_REF_PROVIDER_GET, declaringProviderHandle,
                         declaringProviderCtx));
             } else {
-                // Obtain contextual instance for non-dependent beans
-                ResultHandle container = notify.invokeStaticMethod(MethodDescriptors.ARC_CONTAINER);
-                ResultHandle scope = notify.loadClass(observer.getDeclaringBean().getScope().getDotName().toString());
-                ResultHandle context = notify.invokeInterfaceMethod(MethodDescriptors.ARC_CONTAINER_GET_ACTIVE_CONTEXT,
-                        container,
-                        scope);
-                notify.ifNull(context).trueBranch().throwException(ContextNotActiveException.class,
-                        "Context not active: " + observer.getDeclaringBean().getScope().getDotName());
-                notify.assign(declaringProviderInstanceHandle,
-                        notify.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET_IF_PRESENT, context,
-                                declaringProviderHandle));
-                BytecodeCreator doesNotExist = notify.ifNull(declaringProviderInstanceHandle).trueBranch();
-                doesNotExist.assign(declaringProviderInstanceHandle,
-                        doesNotExist.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET, context, declaringProviderHandle,
-                                doesNotExist.newInstance(
-                                        MethodDescriptor.ofConstructor(CreationalContextImpl.class, Contextual.class),
-                                        declaringProviderHandle)));
+                notify.assign(declaringProviderInstanceHandle, getContextualInstance(notify, observerCreator, observer));
             }
         }
 
+        invokeObserverMethod(observer, observerCreator, notify, declaringProviderInstanceHandle,
+                injectionPointToProviderField, reflectionRegistration, isApplicationClass);
+
+        // If non-static and the declaring bean is @Dependent we must destroy the instance afterwards
+        if (!isStatic && BuiltinScope.DEPENDENT.is(observer.getDeclaringBean().getScope())) {
+            notify.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_BEAN_DESTROY, declaringProviderHandle,
+                    declaringProviderInstanceHandle, declaringProviderCtx);
+        }
+
+        notify.returnValue(null);
+    }
+
+    /**
+     * The contextual instance of the declaring bean may be shared by multiple notifications of the observers declared on the
+     * same bean, see {@link ObserverDispatcherGenerator}.
+     *
+     * @param observer
+     * @param mockable
+     * @return {@code true} if the generated observer declares the {@code getDeclaringBeanInstance()} and
+     *         {@code notify(EventContext, Object)} methods
+     */
+    static boolean sharesDeclaringBeanInstance(ObserverInfo observer, boolean mockable) {
+        return !mockable
+                && !observer.isSynthetic()
+                && !Modifier.isStatic(observer.getObserverMethod().flags())
+                && Reception.ALWAYS == observer.getReception()
+                && !BuiltinScope.DEPENDENT.is(observer.getDeclaringBean().getScope());
+    }
+
+    private ResultHandle getDeclaringProvider(BytecodeCreator creator, ClassCreator observerCreator) {
+        ResultHandle declaringProviderSupplierHandle = creator.readInstanceField(
+                FieldDescriptor.of(observerCreator.getClassName(), DECLARING_PROVIDER_SUPPLIER,
+                        Supplier.class.getName()),
+                creator.getThis());
+        return creator.invokeInterfaceMethod(MethodDescriptors.SUPPLIER_GET, declaringProviderSupplierHandle);
+    }
+
+    private ResultHandle getContextualInstance(BytecodeCreator creator, ClassCreator observerCreator,
+            ObserverInfo observer) {
+        // Obtain contextual instance for non-dependent beans
+        ResultHandle declaringProviderHandle = getDeclaringProvider(creator, observerCreator);
+        AssignableResultHandle instance = creator.createVariable(Object.class);
+        ResultHandle container = creator.invokeStaticMethod(MethodDescriptors.ARC_CONTAINER);
+        ResultHandle scope = creator.loadClass(observer.getDeclaringBean().getScope().getDotName().toString());
+        ResultHandle context = creator.invokeInterfaceMethod(MethodDescriptors.ARC_CONTAINER_GET_ACTIVE_CONTEXT,
+                container,
+                scope);
+        creator.ifNull(context).trueBranch().throwException(ContextNotActiveException.class,
+                "Context not active: " + observer.getDeclaringBean().getScope().getDotName());
+        creator.assign(instance,
+                creator.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET_IF_PRESENT, context,
+                        declaringProviderHandle));
+        BytecodeCreator doesNotExist = creator.ifNull(instance).trueBranch();
+        doesNotExist.assign(instance,
+                doesNotExist.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET, context, declaringProviderHandle,
+                        doesNotExist.newInstance(
+                                MethodDescriptor.ofConstructor(CreationalContextImpl.class, Contextual.class),
+                                declaringProviderHandle)));
+        return instance;
+    }
+
+    private void invokeObserverMethod(ObserverInfo observer, ClassCreator observerCreator, MethodCreator notify,
+            ResultHandle declaringProviderInstanceHandle, Map<InjectionPointInfo, String> injectionPointToProviderField,
+            ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
+        boolean isStatic = Modifier.isStatic(observer.getObserverMethod().flags());
+        // It is safe to skip CreationalContext.release() for observers with noor normal scoped declaring provider, and
+        boolean skipRelease = observer.getInjection().injectionPoints.isEmpty();
+        // This CreationalContext is used for @Dependent instances injected into method parameters
+        ResultHandle ctxHandle = skipRelease ? notify.loadNull()
+                : notify.newInstance(MethodDescriptor.ofConstructor(CreationalContextImpl.class, Contextual.class),
+                        notify.loadNull());
+
         // Collect all method arguments
         ResultHandle[] referenceHandles = new ResultHandle[observer.getObserverMethod().parametersCount()];
         int eventParamPosition = observer.getEventParameter().position();
@@ -477,14 +558,6 @@ public class ObserverGenerator extends AbstractGenerator {
         if (!skipRelease) {
             notify.invokeInterfaceMethod(MethodDescriptors.CREATIONAL_CTX_RELEASE, ctxHandle);
         }
-
-        // If non-static and the declaring bean is @Dependent we must destroy the instance afterwards
-        if (!isStatic && BuiltinScope.DEPENDENT.is(observer.getDeclaringBean().getScope())) {
-            notify.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_BEAN_DESTROY, declaringProviderHandle,
-                    declaringProviderInstanceHandle, declaringProviderCtx);
-        }
-
-        notify.returnValue(null);
     }
 
     protected void createProviderFields(ClassCreator observerCreator, ObserverInfo observer,
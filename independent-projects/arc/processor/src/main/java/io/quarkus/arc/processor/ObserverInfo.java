@@ -272,6 +272,86 @@ public class ObserverInfo implements InjectionTargetInfo {
         return qualifiers;
     }
 
+    /**
+     * The request context may be needed if the observer depends on a {@link jakarta.enterprise.context.RequestScoped} bean,
+     * even transitively, or if it performs a programmatic lookup. Synthetic observers may always need the request context.
+     *
+     * @return {@code true} if the request context may be needed when the observer is notified
+     */
+    boolean isRequestContextRequired() {
+        if (isSynthetic()) {
+            return true;
+        }
+        Set<BeanInfo> visited = new HashSet<>();
+        if (injection != null && isRequestContextRequired(injection.injectionPoints, visited)) {
+            return true;
+        }
+        return isRequestContextRequired(declaringBean, visited);
+    }
+
+    private static boolean isRequestContextRequired(BeanInfo bean, Set<BeanInfo> visited) {
+        if (!visited.add(bean)) {
+            // Already inspected or being inspected
+            return false;
+        }
+        if (bean.isSynthetic() || !isRequestContextIndependent(bean.getScope())) {
+            return true;
+        }
+        if (bean.isProducerMethod() || bean.isProducerField()) {
+            // Producers may need an instance of the declaring bean
+            if (isRequestContextRequired(bean.getDeclaringBean(), visited)) {
+                return true;
+            }
+        }
+        if (isRequestContextRequired(bean.getAllInjectionPoints(), visited)) {
+            return true;
+        }
+        for (InterceptorInfo interceptor : bean.getBoundInterceptors()) {
+            if (isRequestContextRequired(interceptor, visited)) {
+                return true;
+            }
+        }
+        for (DecoratorInfo decorator : bean.getBoundDecorators()) {
+            if (isRequestContextRequired(decorator, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRequestContextRequired(List<InjectionPointInfo> injectionPoints, Set<BeanInfo> visited) {
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            if (injectionPoint.isDelegate()) {
+                // The decorated bean is inspected separately
+                continue;
+            }
+            BuiltinBean builtinBean = BuiltinBean.resolve(injectionPoint);
+            if (builtinBean != null) {
+                switch (builtinBean) {
+                    case EVENT:
+                    case INJECTION_POINT:
+                    case BEAN:
+                    case INTERCEPTED_BEAN:
+                    case EVENT_METADATA:
+                        continue;
+                    default:
+                        // Programmatic lookup, BeanManager, resource injection, etc.
+                        return true;
+                }
+            }
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved == null || isRequestContextRequired(resolved, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRequestContextIndependent(ScopeInfo scope) {
+        // Beans of any other normal scope might be stored in the request context, e.g. a session-like custom context
+        return BuiltinScope.DEPENDENT.is(scope) || BuiltinScope.SINGLETON.is(scope) || BuiltinScope.APPLICATION.is(scope);
+    }
+
     Consumer<MethodCreator> getNotify() {
         return notify;
     }
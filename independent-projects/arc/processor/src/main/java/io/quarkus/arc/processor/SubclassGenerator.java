@@ -3,6 +3,7 @@ package io.quarkus.arc.processor;
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -19,6 +20,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,7 +45,9 @@ import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.InjectableDecorator;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.Subclass;
+import io.quarkus.arc.impl.DirectAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.ReactiveType;
 import io.quarkus.arc.processor.BeanInfo.DecorationInfo;
 import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
 import io.quarkus.arc.processor.Methods.MethodKey;
@@ -68,12 +75,29 @@ public class SubclassGenerator extends AbstractGenerator {
     private static final DotName JAVA_LANG_THROWABLE = DotNames.create(Throwable.class.getName());
     private static final DotName JAVA_LANG_EXCEPTION = DotNames.create(Exception.class.getName());
     private static final DotName JAVA_LANG_RUNTIME_EXCEPTION = DotNames.create(RuntimeException.class.getName());
+    // Interceptors of methods that return these types may continue the chain execution asynchronously
+    private static final Set<DotName> ASYNC_RETURN_TYPES = Set.of(
+            DotNames.create(CompletionStage.class.getName()),
+            DotNames.create(Future.class.getName()),
+            DotName.createSimple("java.util.concurrent.Flow$Publisher"),
+            DotNames.create("org.reactivestreams.Publisher"),
+            DotNames.create("io.smallrye.mutiny.Uni"),
+            DotNames.create("io.smallrye.mutiny.Multi"));
+    private static final DotName KOTLIN_CONTINUATION = DotNames.create("kotlin.coroutines.Continuation");
+    // The map is unordered; if a return type implements several of these types then the constant with the lowest
+    // ReactiveType#ordinal() is used, see getReactiveType(MethodInfo, IndexView)
+    private static final Map<DotName, ReactiveType> REACTIVE_TYPES = Map.of(
+            DotNames.create("io.smallrye.mutiny.Uni"), ReactiveType.UNI,
+            DotNames.create("io.smallrye.mutiny.Multi"), ReactiveType.MULTI,
+            DotNames.create(CompletionStage.class.getName()), ReactiveType.STAGE);
 
     static final String SUBCLASS_SUFFIX = "_Subclass";
     static final String DESTROY_METHOD_NAME = "arc$destroy";
 
     protected static final String FIELD_NAME_PREDESTROYS = "arc$preDestroys";
     protected static final String FIELD_NAME_CONSTRUCTED = "arc$constructed";
+    static final String AROUND_INVOKE_CHAIN_SUFFIX = "_AroundInvokeChain";
+    static final String SHARED_METADATA_PREFIX = "arc$sharedMetadata";
     protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(InterceptedMethodMetadata.class, "method",
             Method.class);
     protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(InterceptedMethodMetadata.class, "chain",
@@ -83,6 +107,8 @@ public class SubclassGenerator extends AbstractGenerator {
 
     private final Predicate<DotName> applicationClassPredicate;
     private final Set<String> existingClasses;
+    // Interceptor -> true if the invocation context may escape the interceptor method
+    private final Map<InterceptorInfo, Boolean> contextMayEscape = new ConcurrentHashMap<>();
 
     static String generatedName(DotName providerTypeName, String baseName) {
         String packageName = DotNames.internalPackageNameWithTrailingSlash(providerTypeName);
@@ -240,6 +266,8 @@ public class SubclassGenerator extends AbstractGenerator {
         IntegerHolder bindingIdx = new IntegerHolder();
         Map<List<InterceptorInfo>, String> interceptorChainKeys = new HashMap<>();
         Map<List<BindingKey>, String> bindingKeys = new HashMap<>();
+        // Generated direct-dispatch chains; a chain class is shared by all methods with the same list of interceptors
+        Map<List<InterceptorInfo>, String> directChains = new HashMap<>();
 
         ResultHandle interceptorChainMap = constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
         ResultHandle bindingsMap = constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
@@ -314,6 +342,9 @@ public class SubclassGenerator extends AbstractGenerator {
             InterceptionInfo interception = bean.getInterceptedMethods().get(method);
             if (interception != null) {
                 // Each intercepted method has a corresponding InterceptedMethodMetadata field
+                // and a static field that holds the metadata shared by all instances
+                subclass.getFieldCreator(SHARED_METADATA_PREFIX + methodIdx, InterceptedMethodMetadata.class.getName())
+                        .setModifiers(ACC_PRIVATE | ACC_STATIC);
                 subclass.getFieldCreator("arc$" + methodIdx++, InterceptedMethodMetadata.class.getName())
                         .setModifiers(ACC_PRIVATE);
                 interceptorChainKeys.computeIfAbsent(interception.interceptors, interceptorChainKeysFun);
@@ -364,38 +395,58 @@ public class SubclassGenerator extends AbstractGenerator {
                             initMetadataMethodFinal.getMethodParam(0), initMetadataMethodFinal.load(interceptorChainKey));
                 });
 
-                // 2. Method method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
+                // 2. Interceptor bindings
+                // Note that we use a shared list if possible
+                String bindingKey = bindingKeys.get(
+                        interception.bindings.stream().map(BindingKey::new).collect(Collectors.toList()));
+                ResultHandle bindingsHandle = bindingsHandles.computeIfAbsent(bindingKey, ignored -> {
+                    return initMetadataMethodFinal.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
+                            initMetadataMethodFinal.getMethodParam(1), initMetadataMethodFinal.load(bindingKey));
+                });
+
+                // 3. The metadata shared by all instances; the method lookup, the return type category and the index of
+                // bindings are only computed when the first instance is created
+                FieldDescriptor sharedMetadataField = FieldDescriptor.of(subclass.getClassName(),
+                        SHARED_METADATA_PREFIX + methodIdx, InterceptedMethodMetadata.class.getName());
+                ResultHandle sharedMetadataHandle = initMetadataMethod.readStaticField(sharedMetadataField);
+                BytecodeCreator sharedMetadataNull = initMetadataMethod.ifNull(sharedMetadataHandle).trueBranch();
+
+                // Method method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
                 ResultHandle[] paramsHandles = new ResultHandle[3];
-                paramsHandles[0] = initMetadataMethod.loadClass(providerTypeName);
-                paramsHandles[1] = initMetadataMethod.load(method.name());
+                paramsHandles[0] = sharedMetadataNull.loadClass(providerTypeName);
+                paramsHandles[1] = sharedMetadataNull.load(method.name());
                 if (!parameters.isEmpty()) {
-                    ResultHandle paramsArray = initMetadataMethod.newArray(Class.class,
-                            initMetadataMethod.load(parameters.size()));
+                    ResultHandle paramsArray = sharedMetadataNull.newArray(Class.class,
+                            sharedMetadataNull.load(parameters.size()));
                     for (ListIterator<Type> iterator = parameters.listIterator(); iterator.hasNext();) {
-                        initMetadataMethod.writeArrayValue(paramsArray, iterator.nextIndex(),
-                                initMetadataMethod.loadClass(iterator.next().name().toString()));
+                        sharedMetadataNull.writeArrayValue(paramsArray, iterator.nextIndex(),
+                                sharedMetadataNull.loadClass(iterator.next().name().toString()));
                     }
                     paramsHandles[2] = paramsArray;
                 } else {
-                    paramsHandles[2] = initMetadataMethod
+                    paramsHandles[2] = sharedMetadataNull
                             .readStaticField(FieldDescriptors.ANNOTATION_LITERALS_EMPTY_CLASS_ARRAY);
                 }
-                ResultHandle methodHandle = initMetadataMethod.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD,
+                ResultHandle methodHandle = sharedMetadataNull.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD,
                         paramsHandles);
 
-                // 3. Interceptor bindings
-                // Note that we use a shared list if possible
-                String bindingKey = bindingKeys.get(
-                        interception.bindings.stream().map(BindingKey::new).collect(Collectors.toList()));
-                ResultHandle bindingsHandle = bindingsHandles.computeIfAbsent(bindingKey, ignored -> {
-                    return initMetadataMethodFinal.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                            initMetadataMethodFinal.getMethodParam(1), initMetadataMethodFinal.load(bindingKey));
-                });
+                // The category of the return type, e.g. Uni; null if it needs to be determined at runtime
+                ReactiveType reactiveType = getReactiveType(method, bean.getDeployment().getBeanArchiveIndex());
+                ResultHandle reactiveTypeHandle = reactiveType != null
+                        ? sharedMetadataNull.readStaticField(
+                                FieldDescriptor.of(ReactiveType.class, reactiveType.name(), ReactiveType.class))
+                        : sharedMetadataNull.loadNull();
+
+                // The shared metadata does not reference the interceptor instances; a race is harmless
+                sharedMetadataNull.writeStaticField(sharedMetadataField, sharedMetadataNull.newInstance(
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
+                        sharedMetadataNull.invokeStaticMethod(MethodDescriptors.COLLECTIONS_EMPTY_LIST), methodHandle,
+                        bindingsHandle, reactiveTypeHandle));
 
                 // Now create metadata for the given intercepted method
                 ResultHandle methodMetadataHandle = initMetadataMethod.newInstance(
-                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                        chainHandle, methodHandle, bindingsHandle);
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_SHARED_CONSTRUCTOR,
+                        chainHandle, initMetadataMethod.readStaticField(sharedMetadataField));
 
                 FieldDescriptor metadataField = FieldDescriptor.of(subclass.getClassName(), "arc$" + methodIdx++,
                         InterceptedMethodMetadata.class.getName());
@@ -405,10 +456,21 @@ public class SubclassGenerator extends AbstractGenerator {
                 // Needed when running on native image
                 reflectionRegistration.registerMethod(method);
 
+                // Generate the direct-dispatch chain if possible
+                String directChain = null;
+                if (isDirectChainSupported(bean, method, interception.interceptors)) {
+                    directChain = directChains.get(interception.interceptors);
+                    if (directChain == null) {
+                        directChain = subclass.getClassName() + AROUND_INVOKE_CHAIN_SUFFIX + directChains.size();
+                        createDirectChain(classOutput, bean, directChain, interception.interceptors);
+                        directChains.put(interception.interceptors, directChain);
+                    }
+                }
+
                 // Finally create the intercepted method
                 createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
                         metadataField, constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                        decoration != null ? decoration.decorators.get(0) : null, directChain);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -737,7 +799,7 @@ public class SubclassGenerator extends AbstractGenerator {
 
     private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
-            MethodDescriptor forwardMethod, DecoratorInfo decorator) {
+            MethodDescriptor forwardMethod, DecoratorInfo decorator, String directChain) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -854,16 +916,280 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+        if (directChain != null) {
+            // new Foo_Subclass_AroundInvokeChain0(this, metadata, forward, params).proceed()
+            ResultHandle ctx = tryCatch.newInstance(
+                    MethodDescriptor.ofConstructor(directChain, Object.class, InterceptedMethodMetadata.class, Function.class,
+                            Object[].class),
+                    tryCatch.getThis(), methodMetadataHandle, func.getInstance(), paramsHandle);
+            tryCatch.returnValue(tryCatch.invokeVirtualMethod(MethodDescriptor.ofMethod(directChain, "proceed", Object.class),
+                    ctx));
+            return;
+        }
+        // InvocationContexts.performAroundInvoke(...) or InvocationContexts.performSyncAroundInvoke(...)
+        // A single invocation context can be used for the whole chain unless the chain execution may continue asynchronously
+        ResultHandle ret = tryCatch.invokeStaticMethod(
+                mayContinueAsynchronously(bean, method)
+                        ? MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE
+                        : MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_SYNC_AROUND_INVOKE,
+                tryCatch.getThis(), methodMetadataHandle, func.getInstance(), paramsHandle);
         tryCatch.returnValue(ret);
     }
 
+    /**
+     * A direct-dispatch chain is only used if a single invocation context can be used for the whole chain and no interceptor
+     * method needs to be invoked via reflection. The generated chain has a mutable position, i.e. it's subject to the same
+     * conservative checks as the shared {@code SyncAroundInvokeInvocationContext}, see
+     * {@link #mayContinueAsynchronously(BeanInfo, MethodInfo)}.
+     *
+     * @param bean
+     * @param method
+     * @param interceptors
+     * @return {@code true} if a generated direct-dispatch chain can be used for the given intercepted method
+     */
+    private boolean isDirectChainSupported(BeanInfo bean, MethodInfo method, List<InterceptorInfo> interceptors) {
+        for (InterceptorInfo interceptor : interceptors) {
+            MethodInfo aroundInvoke = interceptor.getAroundInvoke();
+            if (aroundInvoke == null || Modifier.isPrivate(aroundInvoke.flags())) {
+                // Private interceptor methods are invoked via reflection
+                return false;
+            }
+        }
+        return !mayContinueAsynchronously(bean, method);
+    }
+
+    /**
+     * Generates a subclass of {@link DirectAroundInvokeInvocationContext}. The {@code proceed()} method invokes the
+     * {@code @AroundInvoke} method of the interceptor at the current position directly if it's accessible from the generated
+     * class; otherwise {@link InjectableInterceptor#intercept(InterceptionType, Object, InvocationContext)} is used. In both
+     * cases each interceptor has its own call site.
+     *
+     * @param classOutput
+     * @param bean
+     * @param chainName
+     * @param interceptors
+     */
+    private void createDirectChain(ClassOutput classOutput, BeanInfo bean, String chainName,
+            List<InterceptorInfo> interceptors) {
+        ClassCreator chain = ClassCreator.builder().classOutput(classOutput).className(chainName)
+                .superClass(DirectAroundInvokeInvocationContext.class).setFinal(true).build();
+
+        MethodCreator constructor = chain.getMethodCreator(Methods.INIT, void.class, Object.class,
+                InterceptedMethodMetadata.class, Function.class, Object[].class);
+        constructor.invokeSpecialMethod(MethodDescriptors.DIRECT_AROUND_INVOKE_CTX_CONSTRUCTOR, constructor.getThis(),
+                constructor.getMethodParam(0), constructor.getMethodParam(1), constructor.getMethodParam(2),
+                constructor.getMethodParam(3));
+        constructor.returnValue(null);
+
+        // Protected members must be accessed via the generated class
+        FieldDescriptor positionField = FieldDescriptor.of(chainName, "position", int.class);
+        MethodDescriptor interceptorInstanceMethod = MethodDescriptor.ofMethod(chainName, "interceptorInstance", Object.class,
+                int.class);
+        MethodDescriptor interceptorMethod = MethodDescriptor.ofMethod(chainName, "interceptor", InjectableInterceptor.class,
+                int.class);
+        MethodDescriptor forwardMethod = MethodDescriptor.ofMethod(chainName, "forward", Object.class);
+        MethodCreator proceed = chain.getMethodCreator("proceed", Object.class).addException(Exception.class);
+        ResultHandle current = proceed.readInstanceField(positionField, proceed.getThis());
+        TryBlock tryBlock = proceed.tryBlock();
+        for (int i = 0; i < interceptors.size(); i++) {
+            InterceptorInfo interceptor = interceptors.get(i);
+            MethodInfo aroundInvoke = interceptor.getAroundInvoke();
+            BytecodeCreator match = tryBlock.ifIntegerEqual(current, tryBlock.load(i)).trueBranch();
+            // position = i + 1
+            match.writeInstanceField(positionField, match.getThis(), match.load(i + 1));
+            ResultHandle interceptorInstance = match.invokeVirtualMethod(interceptorInstanceMethod, match.getThis(),
+                    match.load(i));
+            ResultHandle ret;
+            if (isAccessible(bean, interceptor, aroundInvoke)) {
+                // ((AlphaInterceptor) interceptorInstance).around(this)
+                ret = match.invokeVirtualMethod(MethodDescriptor.of(aroundInvoke),
+                        match.checkCast(interceptorInstance, aroundInvoke.declaringClass().name().toString()),
+                        match.getThis());
+            } else {
+                // interceptor(i).intercept(InterceptionType.AROUND_INVOKE, interceptorInstance, this)
+                ret = match.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_INTERCEPTOR_INTERCEPT,
+                        match.invokeVirtualMethod(interceptorMethod, match.getThis(), match.load(i)),
+                        match.readStaticField(FieldDescriptor.of(InterceptionType.class, InterceptionType.AROUND_INVOKE.name(),
+                                InterceptionType.class)),
+                        interceptorInstance, match.getThis());
+            }
+            // position = current
+            match.writeInstanceField(positionField, match.getThis(), current);
+            match.returnValue(ret);
+        }
+        // Invoke the target method
+        tryBlock.returnValue(tryBlock.invokeVirtualMethod(forwardMethod, tryBlock.getThis()));
+        CatchBlockCreator catchBlock = tryBlock.addCatch(Throwable.class);
+        catchBlock.writeInstanceField(positionField, catchBlock.getThis(), current);
+        catchBlock.throwException(catchBlock.getCaughtException());
+        chain.close();
+    }
+
+    /**
+     * The generated chain class is in the same package and defined by the same class loader as the subclass.
+     */
+    private boolean isAccessible(BeanInfo bean, InterceptorInfo interceptor, MethodInfo aroundInvoke) {
+        ClassInfo declaringClass = aroundInvoke.declaringClass();
+        boolean isApplicationBean = applicationClassPredicate.test(bean.getBeanClass());
+        boolean isApplicationInterceptor = applicationClassPredicate.test(declaringClass.name());
+        if (isApplicationInterceptor && !isApplicationBean) {
+            // The interceptor class is not visible
+            return false;
+        }
+        if (Modifier.isPublic(aroundInvoke.flags()) && Modifier.isPublic(declaringClass.flags())) {
+            return true;
+        }
+        return isApplicationInterceptor == isApplicationBean
+                && !Modifier.isPrivate(aroundInvoke.flags())
+                && DotNames.packageName(declaringClass.name())
+                        .equals(DotNames.packageName(bean.getProviderType().name()));
+    }
+
+    /**
+     * The interceptor chain execution may continue asynchronously if the intercepted method may return an asynchronous type
+     * or if the invocation context may escape from the {@code @AroundInvoke} method of an interceptor. Both checks are
+     * conservative, see {@link #isAsync(MethodInfo, IndexView)} and {@link InvocationContextEscapeAnalysis}.
+     *
+     * @param bean
+     * @param method
+     * @return {@code true} if an invocation context must be created for each interceptor in the chain
+     */
+    private boolean mayContinueAsynchronously(BeanInfo bean, MethodInfo method) {
+        IndexView index = bean.getDeployment().getBeanArchiveIndex();
+        if (isAsync(method, index)) {
+            return true;
+        }
+        for (InterceptorInfo interceptor : bean.getInterceptedMethods().get(method).interceptors) {
+            if (contextMayEscape.computeIfAbsent(interceptor,
+                    i -> i.getAroundInvoke() == null || InvocationContextEscapeAnalysis.mayEscape(i.getAroundInvoke()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A method is considered asynchronous unless its return type is known to be synchronous. In particular, {@code void}
+     * methods, methods that return {@link Object}, a type variable or a type whose hierarchy cannot be inspected are
+     * considered asynchronous.
+     *
+     * @param method
+     * @param index
+     * @return {@code true} if the given method may return before the interceptor chain execution is finished
+     */
+    static boolean isAsync(MethodInfo method, IndexView index) {
+        List<Type> parameters = method.parameterTypes();
+        if (!parameters.isEmpty() && KOTLIN_CONTINUATION.equals(parameters.get(parameters.size() - 1).name())) {
+            // Kotlin suspend function
+            return true;
+        }
+        Type returnType = method.returnType();
+        switch (returnType.kind()) {
+            case VOID:
+                // E.g. fire-and-forget
+                return true;
+            case PRIMITIVE:
+            case ARRAY:
+                return false;
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+                return DotNames.OBJECT.equals(returnType.name())
+                        || !isSyncType(returnType.name(), index, new HashSet<>());
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Mirrors {@link ReactiveType#valueOf(Method)}.
+     *
+     * @param method
+     * @param index
+     * @return the category of the return type, or {@code null} if it cannot be determined at build time
+     */
+    static ReactiveType getReactiveType(MethodInfo method, IndexView index) {
+        Type returnType = method.returnType();
+        if (returnType.kind() == Kind.TYPE_VARIABLE || returnType.kind() == Kind.UNRESOLVED_TYPE_VARIABLE) {
+            // The erasure may be a reactive type
+            return null;
+        }
+        if (returnType.kind() != Kind.CLASS && returnType.kind() != Kind.PARAMETERIZED_TYPE) {
+            return ReactiveType.NON_REACTIVE;
+        }
+        Set<DotName> supertypes = new HashSet<>();
+        if (!collectSupertypes(returnType.name(), index, supertypes)) {
+            return null;
+        }
+        ReactiveType found = null;
+        for (DotName supertype : supertypes) {
+            ReactiveType reactiveType = REACTIVE_TYPES.get(supertype);
+            if (reactiveType != null && (found == null || reactiveType.ordinal() < found.ordinal())) {
+                found = reactiveType;
+            }
+        }
+        return found != null ? found : ReactiveType.NON_REACTIVE;
+    }
+
+    private static boolean collectSupertypes(DotName name, IndexView index, Set<DotName> supertypes) {
+        if (!supertypes.add(name) || DotNames.OBJECT.equals(name) || REACTIVE_TYPES.containsKey(name)) {
+            return true;
+        }
+        // The return type is not required to be indexed
+        ClassInfo clazz = getClassByName(index, name, false);
+        if (clazz == null) {
+            return false;
+        }
+        if (clazz.superName() != null && !collectSupertypes(clazz.superName(), index, supertypes)) {
+            return false;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (!collectSupertypes(interfaceName, index, supertypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyncType(DotName name, IndexView index, Set<DotName> visited) {
+        if (ASYNC_RETURN_TYPES.contains(name)) {
+            return false;
+        }
+        if (DotNames.OBJECT.equals(name) || !visited.add(name)) {
+            return true;
+        }
+        ClassInfo clazz = getClassByName(index, name, false);
+        if (clazz == null) {
+            return isSyncJdkType(name);
+        }
+        if (clazz.superName() != null && !isSyncType(clazz.superName(), index, visited)) {
+            return false;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (!isSyncType(interfaceName, index, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyncJdkType(DotName name) {
+        String className = name.toString();
+        if (!className.startsWith("java.")) {
+            // A type that is not indexed is not recognized
+            return false;
+        }
+        // JDK classes are not required to be indexed and cannot implement a non-JDK async type
+        try {
+            Class<?> clazz = Class.forName(className, false, ClassLoader.getPlatformClassLoader());
+            return !CompletionStage.class.isAssignableFrom(clazz)
+                    && !Future.class.isAssignableFrom(clazz)
+                    && !Flow.Publisher.class.isAssignableFrom(clazz);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      *
      * @param classOutput
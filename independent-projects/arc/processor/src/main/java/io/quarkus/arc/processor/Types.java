@@ -264,15 +264,20 @@ public final class Types {
             creator.writeArrayValue(typeArgsHandle, i, argumentHandle);
         }
         Type rawType = Type.create(parameterizedType.name(), Kind.CLASS);
-        ResultHandle rawTypeHandle = null;
+        ResultHandle rawTypeHandle;
         if (cache != null) {
-            rawTypeHandle = cache.get(rawType, creator);
-        }
-        if (rawTypeHandle == null) {
+            // The cached value may be null at runtime
+            AssignableResultHandle rawTypeVariable = creator.createVariable(Object.class);
+            ResultHandle cachedRawType = cache.get(rawType, creator);
+            BranchResult cachedNull = creator.ifNull(cachedRawType);
+            cachedNull.falseBranch().assign(rawTypeVariable, cachedRawType);
+            BytecodeCreator notCached = cachedNull.trueBranch();
+            ResultHandle loadedRawType = doLoadClass(notCached, parameterizedType.name().toString(), tccl);
+            cache.put(rawType, loadedRawType, notCached);
+            notCached.assign(rawTypeVariable, loadedRawType);
+            rawTypeHandle = rawTypeVariable;
+        } else {
             rawTypeHandle = doLoadClass(creator, parameterizedType.name().toString(), tccl);
-            if (cache != null) {
-                cache.put(rawType, rawTypeHandle, creator);
-            }
         }
         ResultHandle parameterizedTypeHandle = creator.newInstance(
                 MethodDescriptor.ofConstructor(ParameterizedTypeImpl.class, java.lang.reflect.Type.class,
@@ -0,0 +1,140 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ArcInvocationContext;
+
+public class InvocationContextEscapeAnalysisTest {
+
+    @Test
+    public void testMayEscape() throws IOException {
+        IndexView index = Basics.index(Interceptors.class);
+        ClassInfo interceptors = index.getClassByName(Basics.name(Interceptors.class));
+
+        assertMayEscape(false, interceptors, "proceed");
+        assertMayEscape(false, interceptors, "getters");
+        assertMayEscape(false, interceptors, "findBinding");
+        assertMayEscape(false, interceptors, "privateHelper");
+        assertMayEscape(true, interceptors, "methodReference");
+        assertMayEscape(true, interceptors, "lambda");
+        assertMayEscape(true, interceptors, "anonymousClass");
+        assertMayEscape(true, interceptors, "field");
+        assertMayEscape(true, interceptors, "collection");
+        assertMayEscape(true, interceptors, "otherClass");
+        assertMayEscape(true, interceptors, "escapingPrivateHelper");
+        assertMayEscape(true, interceptors, "returned");
+    }
+
+    private void assertMayEscape(boolean expected, ClassInfo clazz, String methodName) {
+        assertEquals(expected, InvocationContextEscapeAnalysis.mayEscape(clazz.firstMethod(methodName)), methodName);
+    }
+
+    static class Interceptors {
+
+        static final ExecutorService EXECUTOR = ForkJoinPool.commonPool();
+
+        Object stored;
+        List<Object> list = new ArrayList<>();
+
+        Object proceed(InvocationContext ctx) throws Exception {
+            try {
+                return ctx.proceed();
+            } catch (IllegalStateException e) {
+                return ctx.proceed();
+            }
+        }
+
+        Object getters(InvocationContext ctx) throws Exception {
+            if (ctx instanceof ArcInvocationContext && ctx.getParameters().length > 0) {
+                ctx.getContextData().put("foo", ctx.getMethod().getName());
+                ctx.setParameters(new Object[] { ctx.getTarget() });
+            }
+            return ctx.hashCode() + ":" + ctx.proceed();
+        }
+
+        Object findBinding(InvocationContext ctx) throws Exception {
+            if (ArcInvocationContext.findIterceptorBinding(ctx, Deprecated.class) != null) {
+                return null;
+            }
+            return ctx.proceed();
+        }
+
+        Object privateHelper(InvocationContext ctx) throws Exception {
+            return invoke(1, ctx);
+        }
+
+        Object methodReference(InvocationContext ctx) throws Exception {
+            EXECUTOR.submit(ctx::proceed);
+            return null;
+        }
+
+        Object lambda(InvocationContext ctx) throws Exception {
+            EXECUTOR.submit(() -> ctx.proceed());
+            return null;
+        }
+
+        Object anonymousClass(InvocationContext ctx) throws Exception {
+            EXECUTOR.submit(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    return ctx.proceed();
+                }
+            });
+            return null;
+        }
+
+        Object field(InvocationContext ctx) throws Exception {
+            stored = ctx;
+            return ctx.proceed();
+        }
+
+        Object collection(InvocationContext ctx) throws Exception {
+            list.add(ctx);
+            return ctx.proceed();
+        }
+
+        Object otherClass(InvocationContext ctx) throws Exception {
+            return Helper.invoke(ctx);
+        }
+
+        Object escapingPrivateHelper(InvocationContext ctx) throws Exception {
+            store(ctx);
+            return ctx.proceed();
+        }
+
+        Object returned(InvocationContext ctx) throws Exception {
+            return ctx;
+        }
+
+        private static Object invoke(long ignored, InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+        private void store(Object ctx) {
+            list.add(ctx);
+        }
+
+    }
+
+    static class Helper {
+
+        static Object invoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.impl.ReactiveType;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class SubclassReactiveTypeTest {
+
+    @Test
+    public void testReactiveType() throws IOException {
+        IndexView index = Basics.index(Service.class, Result.class, CompletableFuture.class, CompletionStage.class,
+                Future.class);
+        ClassInfo service = index.getClassByName(Basics.name(Service.class));
+
+        assertReactiveType(ReactiveType.NON_REACTIVE, service, "doVoid", index);
+        assertReactiveType(ReactiveType.NON_REACTIVE, service, "doInt", index);
+        assertReactiveType(ReactiveType.NON_REACTIVE, service, "doArray", index);
+        assertReactiveType(ReactiveType.NON_REACTIVE, service, "doResult", index);
+        assertReactiveType(ReactiveType.UNI, service, "doUni", index);
+        assertReactiveType(ReactiveType.MULTI, service, "doMulti", index);
+        assertReactiveType(ReactiveType.STAGE, service, "doStage", index);
+        assertReactiveType(ReactiveType.STAGE, service, "doFuture", index);
+        // Not in the index - determined at runtime
+        assertReactiveType(null, service, "doList", index);
+        // The erasure may be a reactive type
+        assertReactiveType(null, service, "doGeneric", index);
+    }
+
+    private void assertReactiveType(ReactiveType expected, ClassInfo service, String methodName, IndexView index) {
+        assertEquals(1, service.methods().stream().filter(m -> m.name().equals(methodName)).count());
+        ReactiveType reactiveType = SubclassGenerator.getReactiveType(service.firstMethod(methodName), index);
+        if (expected == null) {
+            assertNull(reactiveType, methodName);
+        } else {
+            assertEquals(expected, reactiveType, methodName);
+        }
+    }
+
+    static class Result {
+    }
+
+    static class Service {
+
+        void doVoid() {
+        }
+
+        int doInt() {
+            return 0;
+        }
+
+        String[] doArray() {
+            return null;
+        }
+
+        Result doResult() {
+            return null;
+        }
+
+        Uni<String> doUni() {
+            return null;
+        }
+
+        Multi<String> doMulti() {
+            return null;
+        }
+
+        CompletionStage<String> doStage() {
+            return null;
+        }
+
+        CompletableFuture<String> doFuture() {
+            return null;
+        }
+
+        List<String> doList() {
+            return null;
+        }
+
+        <T> T doGeneric() {
+            return null;
+        }
+
+    }
+
+}
@@ -13,7 +13,7 @@ public final class Arc {
     private static final AtomicReference<ArcContainerImpl> INSTANCE = new AtomicReference<>();
 
     public static ArcContainer initialize() {
-        return initialize(null);
+        return initialize(ArcInitConfig.DEFAULT);
     }
 
     /**
@@ -22,13 +22,22 @@ public final class Arc {
      * @return the initialized container
      */
     public static ArcContainer initialize(CurrentContextFactory currentContextFactory) {
+        return initialize(ArcInitConfig.builder().setCurrentContextFactory(currentContextFactory).build());
+    }
+
+    /**
+     *
+     * @param config
+     * @return the initialized container
+     */
+    public static ArcContainer initialize(ArcInitConfig config) {
         ArcContainerImpl container = INSTANCE.get();
         if (container == null) {
             synchronized (INSTANCE) {
                 container = INSTANCE.get();
                 if (container == null) {
                     // Set the container instance first because Arc.container() can be used within ArcContainerImpl.init()
-                    container = new ArcContainerImpl(currentContextFactory);
+                    container = new ArcContainerImpl(config);
                     INSTANCE.set(container);
                     container.init();
                 }
@@ -3,6 +3,7 @@ package io.quarkus.arc;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
@@ -12,6 +13,8 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.quarkus.arc.InjectableContext.ContextState;
+
 /**
  * Represents a container instance.
  *
@@ -215,6 +218,35 @@ public interface ArcContainer {
      */
     ManagedContext requestContext();
 
+    /**
+     * Runs the given task with the request context activated with the given state. The state that was active before the
+     * invocation, if any, is restored afterwards.
+     * <p>
+     * If no state is specified then a new state is created and destroyed after the task completes.
+     *
+     * @param state the state, may be {@code null}
+     * @param task
+     * @see ManagedContext#activate(ContextState)
+     */
+    default void runWithRequestContext(ContextState state, Runnable task) {
+        Objects.requireNonNull(task);
+        ManagedContext requestContext = requestContext();
+        ContextState previous = requestContext.getStateIfActive();
+        requestContext.activate(state);
+        try {
+            task.run();
+        } finally {
+            if (state == null) {
+                requestContext.destroy();
+            }
+            if (previous != null) {
+                requestContext.activate(previous);
+            } else {
+                requestContext.deactivate();
+            }
+        }
+    }
+
     /**
      * NOTE: Not all methods are supported!
      *
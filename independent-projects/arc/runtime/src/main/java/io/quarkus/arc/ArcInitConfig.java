@@ -0,0 +1,109 @@
+package io.quarkus.arc;
+
+/**
+ * Configuration used when initializing the container, see {@link Arc#initialize(ArcInitConfig)}.
+ */
+public final class ArcInitConfig {
+
+    /**
+     * The default max number of entries in the caches used for typesafe resolution and name resolution.
+     */
+    public static final int DEFAULT_RESOLUTION_CACHE_MAX_SIZE = 1024;
+
+    public static final ArcInitConfig DEFAULT = builder().build();
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final CurrentContextFactory currentContextFactory;
+    private final int resolutionCacheMaxSize;
+    private final boolean virtualThreadExecutor;
+
+    private ArcInitConfig(Builder builder) {
+        this.currentContextFactory = builder.currentContextFactory;
+        this.resolutionCacheMaxSize = builder.resolutionCacheMaxSize;
+        this.virtualThreadExecutor = builder.virtualThreadExecutor;
+    }
+
+    /**
+     *
+     * @return the factory or {@code null} if the default factory should be used
+     */
+    public CurrentContextFactory getCurrentContextFactory() {
+        return currentContextFactory;
+    }
+
+    /**
+     * The results of typesafe resolution and name resolution computed at build time are always cached; this limit only applies
+     * to the results computed at runtime, e.g. for {@code Instance.select()} with qualifiers created dynamically.
+     *
+     * @return the max number of entries computed at runtime; a value lower than 1 means that the caches are unbounded
+     */
+    public int getResolutionCacheMaxSize() {
+        return resolutionCacheMaxSize;
+    }
+
+    /**
+     * If enabled then the container uses a built-in executor that executes each task in a new virtual thread; e.g. for
+     * {@link jakarta.enterprise.event.Event#fireAsync(Object)}. The executor propagates the state of the request context
+     * that is active when a task is submitted.
+     * <p>
+     * If virtual threads are not supported by the current JVM then a warning is logged and the executor is not used, i.e.
+     * the default executor is used instead.
+     * <p>
+     * The executor takes precedence over the executor set via {@link Arc#setExecutor(java.util.concurrent.ExecutorService)}
+     * and it is shut down when the container is shut down.
+     *
+     * @return {@code true} if the built-in virtual thread executor should be used
+     * @see ArcContainer#getExecutorService()
+     * @see ExecutorStatistics
+     */
+    public boolean isVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    public static class Builder {
+
+        private CurrentContextFactory currentContextFactory;
+        private int resolutionCacheMaxSize;
+        private boolean virtualThreadExecutor;
+
+        private Builder() {
+            this.resolutionCacheMaxSize = DEFAULT_RESOLUTION_CACHE_MAX_SIZE;
+        }
+
+        public Builder setCurrentContextFactory(CurrentContextFactory currentContextFactory) {
+            this.currentContextFactory = currentContextFactory;
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see ArcInitConfig#getResolutionCacheMaxSize()
+         */
+        public Builder setResolutionCacheMaxSize(int value) {
+            this.resolutionCacheMaxSize = value;
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see ArcInitConfig#isVirtualThreadExecutor()
+         */
+        public Builder setVirtualThreadExecutor(boolean value) {
+            this.virtualThreadExecutor = value;
+            return this;
+        }
+
+        public ArcInitConfig build() {
+            return new ArcInitConfig(this);
+        }
+
+    }
+
+}
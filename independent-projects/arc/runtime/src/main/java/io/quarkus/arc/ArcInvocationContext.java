@@ -33,7 +33,7 @@ public interface ArcInvocationContext extends InvocationContext {
     /**
      *
      * @param annotationType
-     * @return the list of interceptor bindings of the given annotation type
+     * @return the unmodifiable list of interceptor bindings of the given annotation type
      */
     <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType);
 
@@ -54,7 +54,7 @@ public interface ArcInvocationContext extends InvocationContext {
      *
      * @param context
      * @param annotationType
-     * @return the list of interceptor bindings of the given annotation type
+     * @return the unmodifiable list of interceptor bindings of the given annotation type
      */
     static <T extends Annotation> List<T> findIterceptorBindings(InvocationContext context, Class<T> annotationType) {
         if (context instanceof ArcInvocationContext) {
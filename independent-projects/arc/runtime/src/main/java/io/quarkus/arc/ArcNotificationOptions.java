@@ -0,0 +1,82 @@
+package io.quarkus.arc;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+
+/**
+ * Arc-specific {@link NotificationOptions} for asynchronous events.
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * The key of the option that specifies the {@link NotificationMode}. The value may be a {@link NotificationMode} or its
+     * name. If not set then {@link NotificationMode#SERIAL} is used.
+     */
+    public static final String MODE = "io.quarkus.arc.async.notification.mode";
+
+    private ArcNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options that enable the {@link NotificationMode#PARALLEL} mode
+     */
+    public static NotificationOptions withParallelMode() {
+        return NotificationOptions.builder().set(MODE, NotificationMode.PARALLEL).build();
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options that enable the {@link NotificationMode#PARALLEL} mode and use the given executor
+     */
+    public static NotificationOptions withParallelMode(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(MODE, NotificationMode.PARALLEL).build();
+    }
+
+    /**
+     * The mode of asynchronous observer notification.
+     */
+    public enum NotificationMode {
+
+        /**
+         * Async observers are notified serially, in the order of their priorities, within a single task submitted to the
+         * executor.
+         */
+        SERIAL,
+
+        /**
+         * Async observers with the same priority are notified concurrently; each observer is notified in a separate task
+         * submitted to the executor. Groups of observers with different priorities are notified in the order of their
+         * priorities, i.e. a group is notified once all observers of the previous group were notified.
+         * <p>
+         * The request context is activated for each observer notification separately. Exceptions thrown by observers are
+         * handled in the same way as in the serial mode.
+         */
+        PARALLEL;
+
+        /**
+         *
+         * @param options
+         * @return the mode specified by the given options
+         * @throws IllegalArgumentException if the value of the {@link ArcNotificationOptions#MODE} option is not valid
+         */
+        public static NotificationMode from(NotificationOptions options) {
+            Object value = options.get(MODE);
+            if (value == null) {
+                return SERIAL;
+            }
+            if (value instanceof NotificationMode) {
+                return (NotificationMode) value;
+            }
+            return valueOf(value.toString().toUpperCase(Locale.ROOT));
+        }
+
+    }
+
+}
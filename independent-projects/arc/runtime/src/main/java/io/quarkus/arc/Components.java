@@ -2,10 +2,14 @@ package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import io.quarkus.arc.impl.ObserverDispatcher;
+import io.quarkus.arc.impl.PrecomputedResolution;
+
 public final class Components {
 
     private final Collection<InjectableBean<?>> beans;
@@ -15,12 +19,33 @@ public final class Components {
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Map<String, Set<String>> qualifierNonbindingMembers;
     private final Set<String> qualifiers;
+    private final Collection<PrecomputedResolution> precomputedResolutions;
+    private final Map<Class<?>, ObserverDispatcher> observerDispatchers;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
             Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
             Set<String> qualifiers) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, qualifierNonbindingMembers, qualifiers,
+                Collections.emptyList());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers, Collection<PrecomputedResolution> precomputedResolutions) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, qualifierNonbindingMembers, qualifiers,
+                precomputedResolutions, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers, Collection<PrecomputedResolution> precomputedResolutions,
+            Map<Class<?>, ObserverDispatcher> observerDispatchers) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
@@ -28,6 +53,8 @@ public final class Components {
         this.removedBeans = removedBeans;
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
         this.qualifiers = qualifiers;
+        this.precomputedResolutions = precomputedResolutions;
+        this.observerDispatchers = observerDispatchers;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -68,4 +95,20 @@ public final class Components {
         return qualifiers;
     }
 
+    /**
+     *
+     * @return the results of typesafe resolution and name resolution performed at build time
+     */
+    public Collection<PrecomputedResolution> getPrecomputedResolutions() {
+        return precomputedResolutions;
+    }
+
+    /**
+     *
+     * @return a map of event types to the observer dispatchers generated at build time
+     */
+    public Map<Class<?>, ObserverDispatcher> getObserverDispatchers() {
+        return observerDispatchers;
+    }
+
 }
@@ -0,0 +1,124 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A channel that delivers events to asynchronous observers, i.e. observer methods with an
+ * {@link jakarta.enterprise.event.ObservesAsync} event parameter. Synchronous observers are not notified.
+ * <p>
+ * Events are stored in a bounded queue which is drained by a limited number of workers. A worker removes a batch of events
+ * from the queue and notifies the async observers of each event, in the order of their priorities. The request context is
+ * activated once for the whole batch. If there is only one worker then the events are delivered in the order in which they
+ * were sent.
+ * <p>
+ * Unlike {@link jakarta.enterprise.event.Event#fireAsync(Object)}, no {@link java.util.concurrent.CompletionStage} is
+ * created for a single event. Exceptions thrown by observers are passed to the {@link AsyncObserverExceptionHandler}.
+ *
+ * @param <T>
+ * @see InjectableEvent#openChannel(EventChannelOptions)
+ */
+public interface EventChannel<T> extends AutoCloseable {
+
+    /**
+     * Sends the event. If the queue is full then the {@link EventChannelOptions#getOverflowPolicy()} is applied.
+     * <p>
+     * Note that an observer notified by this channel should never send an event with the {@link OverflowPolicy#BLOCK}
+     * policy; it could block the worker forever.
+     *
+     * @param event
+     * @return {@code true} if the event was queued, {@code false} if it was dropped
+     * @throws IllegalStateException if the channel is closed or if the queue is full and the {@link OverflowPolicy#FAIL}
+     *         policy is used
+     */
+    boolean send(T event);
+
+    /**
+     * Subscribes to the given publisher once the returned {@link Uni} is subscribed. The items are requested only when
+     * there is free space in the queue, i.e. the producer is backpressured and the overflow policy does not apply.
+     * <p>
+     * If the returned {@link Uni} is cancelled then the subscription to the publisher is cancelled too.
+     *
+     * @param events
+     * @return a {@link Uni} completed when all events emitted by the publisher were queued
+     */
+    Uni<Void> sendAll(Publisher<? extends T> events);
+
+    /**
+     *
+     * @param events
+     * @return a {@link Uni} completed when all events emitted by the publisher were queued
+     * @see #sendAll(Publisher)
+     */
+    default Uni<Void> sendAll(Flow.Publisher<? extends T> events) {
+        return sendAll(FlowAdapters.toPublisher(events));
+    }
+
+    /**
+     *
+     * @param events
+     * @return a {@link Uni} completed when all events emitted by the {@link Multi} were queued
+     * @see #sendAll(Publisher)
+     */
+    default Uni<Void> sendAll(Multi<? extends T> events) {
+        return sendAll((Publisher<? extends T>) events);
+    }
+
+    /**
+     *
+     * @return the number of events waiting in the queue
+     */
+    int getQueueSize();
+
+    /**
+     *
+     * @return the number of delivered events
+     */
+    long getDelivered();
+
+    /**
+     *
+     * @return the number of events dropped because the queue was full
+     */
+    long getDropped();
+
+    /**
+     * No more events are accepted once the channel is closed. Events that were already queued are still delivered.
+     */
+    @Override
+    void close();
+
+    /**
+     *
+     * @return {@code true} if the channel is closed
+     */
+    boolean isClosed();
+
+    /**
+     * Specifies what happens if an event is sent and the queue is full.
+     */
+    enum OverflowPolicy {
+
+        /**
+         * The event is dropped.
+         */
+        DROP,
+
+        /**
+         * The caller is blocked until there is free space in the queue.
+         */
+        BLOCK,
+
+        /**
+         * An {@link IllegalStateException} is thrown.
+         */
+        FAIL,
+
+    }
+
+}
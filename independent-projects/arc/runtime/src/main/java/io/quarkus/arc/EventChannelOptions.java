@@ -0,0 +1,165 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+
+import io.quarkus.arc.EventChannel.OverflowPolicy;
+
+/**
+ * Options of an {@link EventChannel}.
+ *
+ * @see InjectableEvent#openChannel(EventChannelOptions)
+ */
+public final class EventChannelOptions {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    public static final EventChannelOptions DEFAULT = builder().build();
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final int capacity;
+    private final int workers;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+
+    private EventChannelOptions(Builder builder) {
+        this.capacity = builder.capacity;
+        this.workers = builder.workers;
+        this.batchSize = builder.batchSize;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.executor = builder.executor;
+    }
+
+    /**
+     *
+     * @return the max number of queued events
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     *
+     * @return the max number of workers that deliver the events concurrently
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     *
+     * @return the max number of events delivered by a worker at once
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     *
+     * @return the policy applied if the queue is full
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     *
+     * @return the executor used to run the workers, or {@code null} if {@link ArcContainer#getExecutorService()} should be
+     *         used
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public static class Builder {
+
+        private int capacity;
+        private int workers;
+        private int batchSize;
+        private OverflowPolicy overflowPolicy;
+        private Executor executor;
+
+        private Builder() {
+            this.capacity = DEFAULT_CAPACITY;
+            this.workers = 1;
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            this.overflowPolicy = OverflowPolicy.BLOCK;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see EventChannelOptions#getCapacity()
+         */
+        public Builder setCapacity(int value) {
+            this.capacity = requirePositive(value, "capacity");
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see EventChannelOptions#getWorkers()
+         */
+        public Builder setWorkers(int value) {
+            this.workers = requirePositive(value, "workers");
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see EventChannelOptions#getBatchSize()
+         */
+        public Builder setBatchSize(int value) {
+            this.batchSize = requirePositive(value, "batchSize");
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see EventChannelOptions#getOverflowPolicy()
+         */
+        public Builder setOverflowPolicy(OverflowPolicy value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Overflow policy must not be null");
+            }
+            this.overflowPolicy = value;
+            return this;
+        }
+
+        /**
+         *
+         * @param value
+         * @return self
+         * @see EventChannelOptions#getExecutor()
+         */
+        public Builder setExecutor(Executor value) {
+            this.executor = value;
+            return this;
+        }
+
+        public EventChannelOptions build() {
+            return new EventChannelOptions(this);
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException("The value of " + name + " must be greater than zero: " + value);
+            }
+            return value;
+        }
+
+    }
+
+}
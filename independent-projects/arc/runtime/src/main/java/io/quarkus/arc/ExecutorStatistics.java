@@ -0,0 +1,33 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Statistics of the built-in executor service, i.e. the executor used if {@link ArcInitConfig#isVirtualThreadExecutor()} is
+ * enabled and virtual threads are supported by the current JVM.
+ */
+public interface ExecutorStatistics {
+
+    /**
+     *
+     * @return the statistics, or {@code null} if the executor returned by {@link ArcContainer#getExecutorService()} does not
+     *         provide statistics
+     */
+    static ExecutorStatistics get() {
+        ExecutorService executor = Arc.container().getExecutorService();
+        return executor instanceof ExecutorStatistics ? (ExecutorStatistics) executor : null;
+    }
+
+    /**
+     *
+     * @return the number of tasks submitted but not started yet
+     */
+    int getQueueDepth();
+
+    /**
+     *
+     * @return the number of tasks being executed
+     */
+    int getInFlight();
+
+}
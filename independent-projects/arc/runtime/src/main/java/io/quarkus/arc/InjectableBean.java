@@ -143,6 +143,18 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return 0;
     }
 
+    /**
+     * A bean of a built-in context may have an index assigned at build time. The context can use the index to store the
+     * contextual instance in an array instead of a map.
+     * <p>
+     * The indexes of beans with the same scope are dense, i.e. from 0 to n-1.
+     *
+     * @return the index, or -1 if no index is assigned
+     */
+    default int getContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
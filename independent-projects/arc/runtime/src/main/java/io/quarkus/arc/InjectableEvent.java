@@ -0,0 +1,61 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.util.TypeLiteral;
+
+/**
+ * Enhanced version of {@link Event}.
+ *
+ * @param <T>
+ */
+public interface InjectableEvent<T> extends Event<T> {
+
+    @Override
+    InjectableEvent<T> select(Annotation... qualifiers);
+
+    @Override
+    <U extends T> InjectableEvent<U> select(Class<U> subtype, Annotation... qualifiers);
+
+    @Override
+    <U extends T> InjectableEvent<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * Fires all the given events with the specified qualifiers and notifies synchronous observers, in the iteration order
+     * of the collection.
+     * <p>
+     * The result is the same as if {@link #fire(Object)} was called for each event. However, the observers are resolved only
+     * once per runtime type of an event, the request context is activated at most once for the whole batch (see
+     * {@link ActivateRequestContext}) and at most one JTA synchronization is registered for all transactional observer
+     * notifications.
+     * <p>
+     * If an observer throws an exception then the remaining events are not delivered.
+     *
+     * @param events
+     * @throws jakarta.enterprise.event.ObserverException if a notified observer throws a checked exception
+     */
+    void fireAll(Collection<? extends T> events);
+
+    /**
+     * Opens a new channel that delivers events with the specified qualifiers to asynchronous observers.
+     *
+     * @param options
+     * @return a new channel
+     * @see EventChannel
+     */
+    EventChannel<T> openChannel(EventChannelOptions options);
+
+    /**
+     * Opens a new channel with the {@link EventChannelOptions#DEFAULT default options}.
+     *
+     * @return a new channel
+     * @see #openChannel(EventChannelOptions)
+     */
+    default EventChannel<T> openChannel() {
+        return openChannel(EventChannelOptions.DEFAULT);
+    }
+
+}
@@ -39,6 +39,20 @@ public interface InjectableObserverMethod<T> extends ObserverMethod<T> {
      */
     String getDeclaringBeanIdentifier();
 
+    /**
+     * The container activates the request context when a synchronous observer is notified and the context is not active.
+     * The activation may be skipped if none of the notified observers needs the request context.
+     * <p>
+     * An observer may need the request context if it depends on a {@link jakarta.enterprise.context.RequestScoped} bean,
+     * even transitively, or if it performs a programmatic lookup. The value is computed at build time. Note that a lookup
+     * performed by means of the static {@link Arc#container()} method cannot be detected.
+     *
+     * @return {@code true} if the request context may be needed to notify this observer, {@code false} otherwise
+     */
+    default boolean isRequestContextRequired() {
+        return true;
+    }
+
     static int compare(InjectableObserverMethod<?> o1, InjectableObserverMethod<?> o2) {
         return Integer.compare(o1.getPriority(), o2.getPriority());
     }
@@ -9,6 +9,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
@@ -17,7 +18,10 @@ import jakarta.interceptor.InterceptorBinding;
  * Defines a concurrency lock for a bean.
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
- * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy. If
+ * {@link Type#OPTIMISTIC_READ} is used then a {@link StampedLock} is used to validate the optimistic reads.
+ *
+ * @see LockStatistics
  */
 @InterceptorBinding
 @Inherited
@@ -62,7 +66,23 @@ public @interface Lock {
          * <p>
          * This could be useful if you need to override the behavior defined by a class-level interceptor binding.
          */
-        NONE
+        NONE,
+        /**
+         * Invokes the business method without acquiring a lock and validates afterwards that no write lock was acquired in the
+         * meantime. If the validation fails, or if the write lock is currently held, then the business method is invoked
+         * again while holding the read lock.
+         * <p>
+         * Unlike {@link #READ}, concurrent optimistic readers do not write to any shared memory, which avoids the contention
+         * on the read lock state if there are many readers. However, the business method may be invoked twice and it may
+         * observe an inconsistent state during the first invocation. Therefore, it must be free of side effects and it must
+         * not fail if the state is modified concurrently. A method that acquires the write lock, directly or indirectly, must
+         * not be invoked from the business method.
+         * <p>
+         * The wait time only applies to the read lock.
+         *
+         * @see StampedLock#tryOptimisticRead()
+         */
+        OPTIMISTIC_READ
     }
 
 }
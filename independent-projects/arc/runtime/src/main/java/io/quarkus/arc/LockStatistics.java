@@ -0,0 +1,50 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.arc.impl.LockInterceptor;
+
+/**
+ * Statistics of the built-in interceptor for the {@link Lock} interceptor binding.
+ * <p>
+ * The statistics are aggregated for all intercepted beans. An uncontended lock acquisition is not recorded at all, i.e. the
+ * values only change if a lock is not immediately available.
+ */
+public interface LockStatistics {
+
+    /**
+     *
+     * @return the statistics
+     */
+    static LockStatistics get() {
+        return LockInterceptor.STATISTICS;
+    }
+
+    /**
+     *
+     * @return the number of lock acquisitions that had to wait for a lock held by another thread
+     */
+    long getContendedAcquisitions();
+
+    /**
+     *
+     * @param unit
+     * @return the total time spent waiting for a lock
+     */
+    long getWaitTime(TimeUnit unit);
+
+    /**
+     *
+     * @return the number of lock acquisitions that failed because the wait time elapsed
+     * @see Lock#time()
+     */
+    long getTimeouts();
+
+    /**
+     *
+     * @return the number of optimistic reads that had to be repeated while holding the read lock
+     * @see Lock.Type#OPTIMISTIC_READ
+     */
+    long getOptimisticReadFailures();
+
+}
@@ -0,0 +1,90 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Limits the number of concurrent invocations of business methods.
+ * <p>
+ * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
+ * contextual instance of an intercepted bean holds a {@link Semaphore} with non-fair ordering policy for each distinct
+ * limit. By default, invocations of all methods with an equal binding share the permits, i.e. a class-level binding limits
+ * the concurrent invocations of all business methods of a bean instance. If {@link Scope#METHOD} is used then each method
+ * has its own permits.
+ * <p>
+ * If a method returns {@link io.smallrye.mutiny.Uni} or {@link io.smallrye.mutiny.Multi} then the permit is acquired when
+ * the result is subscribed and released when the result is terminated, i.e. completed, failed or cancelled. If a method
+ * returns {@link CompletionStage} then the permit is released when the result is completed. If a permit cannot be
+ * acquired then the result fails with a {@link MaxConcurrencyException}.
+ * <p>
+ * Note that waiting for a permit blocks the current thread. Therefore, methods invoked on an event loop should use
+ * {@link #failFast()}. Also a business method invoking another business method of the same bean may exhaust the permits.
+ */
+@InterceptorBinding
+@Inherited
+@Target(value = { TYPE, METHOD })
+@Retention(value = RUNTIME)
+public @interface MaxConcurrency {
+
+    /**
+     *
+     * @return the max number of concurrent invocations; must be greater than zero
+     */
+    @Nonbinding
+    int value();
+
+    /**
+     * If it's not possible to acquire a permit in the given time a {@link MaxConcurrencyException} is thrown. By default,
+     * the invocation waits until a permit is available.
+     *
+     * @see Semaphore#tryAcquire(long, TimeUnit)
+     * @return the wait time
+     */
+    @Nonbinding
+    long time() default -1l;
+
+    /**
+     *
+     * @return the wait time unit
+     */
+    @Nonbinding
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * If set to {@code true} then a {@link MaxConcurrencyException} is thrown immediately if no permit is available.
+     *
+     * @return {@code true} if the invocation should never wait for a permit
+     */
+    @Nonbinding
+    boolean failFast() default false;
+
+    /**
+     *
+     * @return the scope of the limit
+     */
+    @Nonbinding
+    Scope scope() default Scope.BEAN;
+
+    public enum Scope {
+        /**
+         * All methods of a bean instance with an equal binding share the permits.
+         */
+        BEAN,
+        /**
+         * Each method of a bean instance has its own permits.
+         */
+        METHOD
+    }
+
+}
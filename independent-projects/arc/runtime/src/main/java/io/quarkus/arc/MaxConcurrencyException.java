@@ -0,0 +1,15 @@
+package io.quarkus.arc;
+
+/**
+ *
+ * @see MaxConcurrency
+ */
+public class MaxConcurrencyException extends RuntimeException {
+
+    private static final long serialVersionUID = -1946310164093617651L;
+
+    public MaxConcurrencyException(String message) {
+        super(message);
+    }
+
+}
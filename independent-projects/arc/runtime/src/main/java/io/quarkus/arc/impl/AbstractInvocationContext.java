@@ -5,6 +5,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,6 +21,8 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
     protected final Constructor<?> constructor;
     protected final Set<Annotation> interceptorBindings;
     protected final List<InterceptorInvocation> chain;
+    // May be null, e.g. for lifecycle callbacks
+    protected final InterceptedMethodMetadata metadata;
     protected Object target;
     protected Object[] parameters;
     protected ContextDataMap contextData;
@@ -28,17 +31,42 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
             Constructor<?> constructor,
             Object[] parameters, ContextDataMap contextData,
             Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
+        this(target, method, constructor, parameters, contextData, interceptorBindings, chain, null);
+    }
+
+    protected AbstractInvocationContext(Object target, InterceptedMethodMetadata metadata, Object[] parameters,
+            ContextDataMap contextData) {
+        this(target, metadata.method, null, parameters, contextData, metadata.bindings, metadata.chain, metadata);
+    }
+
+    private AbstractInvocationContext(Object target, Method method,
+            Constructor<?> constructor,
+            Object[] parameters, ContextDataMap contextData,
+            Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain, InterceptedMethodMetadata metadata) {
         this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters != null ? parameters : EMPTY_PARAMS;
-        this.contextData = contextData != null ? contextData : new ContextDataMap(interceptorBindings);
+        // The context data map is created lazily, see getContextData()
+        this.contextData = contextData;
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
+        this.metadata = metadata;
+    }
+
+    /**
+     *
+     * @return the category of the return type of the intercepted method
+     */
+    ReactiveType getReactiveType() {
+        return metadata != null ? metadata.reactiveType : ReactiveType.valueOf(method);
     }
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(interceptorBindings);
+        }
         return contextData;
     }
 
@@ -50,6 +78,9 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
+        if (metadata != null) {
+            return metadata.findBinding(annotationType);
+        }
         for (Annotation annotation : interceptorBindings) {
             if (annotation.annotationType().equals(annotationType)) {
                 return (T) annotation;
@@ -61,13 +92,19 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType) {
-        List<T> found = new ArrayList<>();
+        if (metadata != null) {
+            return metadata.findBindings(annotationType);
+        }
+        List<T> found = null;
         for (Annotation annotation : (Set<Annotation>) interceptorBindings) {
             if (annotation.annotationType().equals(annotationType)) {
+                if (found == null) {
+                    found = new ArrayList<>(1);
+                }
                 found.add((T) annotation);
             }
         }
-        return found;
+        return found != null ? Collections.unmodifiableList(found) : Collections.emptyList();
     }
 
     @Override
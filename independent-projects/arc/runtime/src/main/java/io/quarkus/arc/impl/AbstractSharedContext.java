@@ -1,9 +1,11 @@
 package io.quarkus.arc.impl;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -16,9 +18,22 @@ import io.quarkus.arc.InjectableContext;
 
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
+    // Instances of beans with a context index
+    private final AtomicReferenceArray<LazyValue<ContextInstanceHandle<?>>> slots;
+    // Instances of beans without a context index, e.g. registered at runtime
     protected final ComputingCache<String, ContextInstanceHandle<?>> instances;
 
     public AbstractSharedContext() {
+        this(0);
+    }
+
+    /**
+     *
+     * @param slots the number of beans that have a context index assigned
+     * @see InjectableBean#getContextIndex()
+     */
+    public AbstractSharedContext(int slots) {
+        this.slots = new AtomicReferenceArray<>(slots);
         this.instances = new ComputingCache<>();
     }
 
@@ -31,12 +46,33 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
-            @Override
-            public ContextInstanceHandle<?> get() {
-                return createInstanceHandle(bean, creationalContext);
+        return getContextInstanceHandle(bean, creationalContext).get();
+    }
+
+    /**
+     * The returned handle is invalidated when the instance is destroyed, see {@link ContextInstanceHandleImpl#isValid()}.
+     *
+     * @param bean
+     * @param creationalContext
+     * @return the handle for the given bean, a new instance is created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getContextInstanceHandle(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        Supplier<ContextInstanceHandle<?>> supplier;
+        int index = slotIndex(bean);
+        if (index != -1) {
+            LazyValue<ContextInstanceHandle<?>> value = slots.get(index);
+            if (value == null) {
+                // Per-slot lazy init; the instance is created outside of any context-wide lock
+                value = new LazyValue<>(instanceHandleSupplier(bean, creationalContext));
+                if (!slots.compareAndSet(index, null, value)) {
+                    value = slots.get(index);
+                }
             }
-        }).get();
+            return (ContextInstanceHandleImpl<T>) value.get();
+        }
+        return (ContextInstanceHandleImpl<T>) instances.computeIfAbsent(bean.getIdentifier(),
+                instanceHandleSupplier(bean, creationalContext));
     }
 
     @SuppressWarnings("unchecked")
@@ -47,7 +83,14 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        ContextInstanceHandle<?> handle = instances.getValueIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<?> handle;
+        int index = slotIndex(bean);
+        if (index != -1) {
+            LazyValue<ContextInstanceHandle<?>> value = slots.get(index);
+            handle = value != null ? value.getIfPresent() : null;
+        } else {
+            handle = instances.getValueIfPresent(bean.getIdentifier());
+        }
         return handle != null ? (T) handle.get() : null;
     }
 
@@ -63,7 +106,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public Map<InjectableBean<?>, Object> getContextualInstances() {
-        return instances.getPresentValues().stream()
+        return getPresentValues().stream()
                 .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
     }
 
@@ -74,8 +117,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = remove((InjectableBean<?>) contextual);
         if (handle != null) {
             handle.destroy();
         }
@@ -83,7 +125,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public synchronized void destroy() {
-        Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+        Set<ContextInstanceHandle<?>> values = getPresentValues();
         // Destroy the producers first
         for (Iterator<ContextInstanceHandle<?>> iterator = values.iterator(); iterator.hasNext();) {
             ContextInstanceHandle<?> instanceHandle = iterator.next();
@@ -95,6 +137,9 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         for (ContextInstanceHandle<?> instanceHandle : values) {
             instanceHandle.destroy();
         }
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
         instances.clear();
     }
 
@@ -107,6 +152,56 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         }
     }
 
+    /**
+     *
+     * @return the handles of all existing contextual instances
+     */
+    Set<ContextInstanceHandle<?>> getPresentValues() {
+        Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+        if (slots.length() == 0) {
+            return values;
+        }
+        Set<ContextInstanceHandle<?>> all = new HashSet<>(values);
+        for (int i = 0; i < slots.length(); i++) {
+            LazyValue<ContextInstanceHandle<?>> value = slots.get(i);
+            if (value != null && value.isSet()) {
+                all.add(value.get());
+            }
+        }
+        return all;
+    }
+
+    /**
+     * The handle is not destroyed.
+     *
+     * @param bean
+     * @return the removed handle or {@code null} if no instance exists
+     */
+    ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        int index = slotIndex(bean);
+        if (index != -1) {
+            LazyValue<ContextInstanceHandle<?>> value = slots.getAndSet(index, null);
+            // Wait for an instance that is being created; it must be destroyed as well
+            return value != null ? value.get() : null;
+        }
+        return instances.remove(bean.getIdentifier());
+    }
+
+    private int slotIndex(InjectableBean<?> bean) {
+        int index = bean.getContextIndex();
+        return index < slots.length() ? index : -1;
+    }
+
+    private static <T> Supplier<ContextInstanceHandle<?>> instanceHandleSupplier(InjectableBean<T> bean,
+            CreationalContext<T> creationalContext) {
+        return new Supplier<ContextInstanceHandle<?>>() {
+            @Override
+            public ContextInstanceHandle<?> get() {
+                return createInstanceHandle(bean, creationalContext);
+            }
+        };
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
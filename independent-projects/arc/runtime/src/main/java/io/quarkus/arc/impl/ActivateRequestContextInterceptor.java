@@ -20,9 +20,19 @@ import io.smallrye.mutiny.Uni;
 @Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
 public class ActivateRequestContextInterceptor {
 
+    private final ManagedContext requestContext;
+
+    public ActivateRequestContextInterceptor() {
+        this.requestContext = Arc.container().requestContext();
+    }
+
     @AroundInvoke
     Object aroundInvoke(InvocationContext ctx) throws Exception {
-        switch (ReactiveType.valueOf(ctx.getMethod())) {
+        // The return type category is determined at build time for intercepted subclasses
+        ReactiveType reactiveType = ctx instanceof AbstractInvocationContext
+                ? ((AbstractInvocationContext) ctx).getReactiveType()
+                : ReactiveType.valueOf(ctx.getMethod());
+        switch (reactiveType) {
             case UNI:
                 return invokeUni(ctx);
             case MULTI:
@@ -35,7 +45,6 @@ public class ActivateRequestContextInterceptor {
     }
 
     private CompletionStage<?> invokeStage(InvocationContext ctx) {
-        ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
             return proceedWithStage(ctx);
         }
@@ -66,7 +75,6 @@ public class ActivateRequestContextInterceptor {
 
     private Multi<?> invokeMulti(InvocationContext ctx) {
         return Multi.createFrom().deferred(() -> {
-            ManagedContext requestContext = Arc.container().requestContext();
             if (requestContext.isActive()) {
                 return proceedWithMulti(ctx);
             }
@@ -93,7 +101,6 @@ public class ActivateRequestContextInterceptor {
 
     private Uni<?> invokeUni(InvocationContext ctx) {
         return Uni.createFrom().deferred(() -> {
-            ManagedContext requestContext = Arc.container().requestContext();
             if (requestContext.isActive()) {
                 return proceedWithUni(ctx);
             }
@@ -119,7 +126,6 @@ public class ActivateRequestContextInterceptor {
     }
 
     private Object invoke(InvocationContext ctx) throws Exception {
-        ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
             return ctx.proceed();
         }
@@ -6,6 +6,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 
 class ApplicationContext extends AbstractSharedContext {
 
+    ApplicationContext(int slots) {
+        super(slots);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
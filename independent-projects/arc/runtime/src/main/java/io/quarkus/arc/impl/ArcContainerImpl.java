@@ -8,10 +8,12 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +55,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.CurrentContextFactory;
@@ -79,11 +82,15 @@ public class ArcContainerImpl implements ArcContainer {
     private final AtomicBoolean running;
 
     private final List<InjectableBean<?>> beans;
+    // raw bean type -> beans that have a bean type with the given raw type
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
     private final LazyValue<List<RemovedBean>> removedBeans;
     private final List<InjectableInterceptor<?>> interceptors;
     private final List<InjectableDecorator<?>> decorators;
     private final List<InjectableObserverMethod<?>> observers;
+    private final ObserverIndex observerIndex;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
+    private final Map<Class<?>, ObserverDispatcher> observerDispatchers;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
@@ -95,10 +102,17 @@ public class ArcContainerImpl implements ArcContainer {
     final Qualifiers registeredQualifiers;
 
     private volatile ExecutorService executorService;
+    // The built-in executor; null if not enabled
+    private final VirtualThreadExecutorService virtualThreadExecutor;
 
     private final CurrentContextFactory currentContextFactory;
 
     public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
+        this(ArcInitConfig.builder().setCurrentContextFactory(currentContextFactory).build());
+    }
+
+    public ArcContainerImpl(ArcInitConfig config) {
+        CurrentContextFactory currentContextFactory = config.getCurrentContextFactory();
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
         List<InjectableBean<?>> beans = new ArrayList<>();
@@ -107,6 +121,7 @@ public class ArcContainerImpl implements ArcContainer {
         List<InjectableDecorator<?>> decorators = new ArrayList<>();
         List<InjectableObserverMethod<?>> observers = new ArrayList<>();
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
+        Map<Class<?>, ObserverDispatcher> observerDispatchers = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
         Set<String> qualifiers = new HashSet<>();
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
@@ -130,6 +145,7 @@ public class ArcContainerImpl implements ArcContainer {
             removedBeans.add(c.getRemovedBeans());
             observers.addAll(c.getObservers());
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
+            observerDispatchers.putAll(c.getObserverDispatchers());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
         }
@@ -139,9 +155,10 @@ public class ArcContainerImpl implements ArcContainer {
 
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
-        resolved = new ComputingCache<>(this::resolve);
+        // Results computed at build time are pinned; only the keys that are not known at build time count towards the limit
+        resolved = new ComputingCache<>(this::resolve, config.getResolutionCacheMaxSize());
         beansById = new ComputingCache<>(this::findById);
-        beansByName = new ComputingCache<>(this::resolve);
+        beansByName = new ComputingCache<>(this::resolve, config.getResolutionCacheMaxSize());
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -151,9 +168,11 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
 
         this.beans = List.copyOf(beans);
+        this.beansByRawType = initBeansByRawType(this.beans);
         this.interceptors = List.copyOf(interceptors);
         this.decorators = List.copyOf(decorators);
         this.observers = List.copyOf(observers);
+        this.observerIndex = new ObserverIndex(this.observers);
         this.removedBeans = new LazyValue<>(new Supplier<List<RemovedBean>>() {
             @Override
             public List<RemovedBean> get() {
@@ -166,15 +185,22 @@ public class ArcContainerImpl implements ArcContainer {
             }
         });
         this.transitiveInterceptorBindings = Map.copyOf(transitiveInterceptorBindings);
+        this.observerDispatchers = Map.copyOf(observerDispatchers);
         this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers);
 
+        if (components.size() == 1) {
+            // The results computed at build time are only valid if there are no other components
+            preloadResolutions(components.get(0).getPrecomputedResolutions());
+        }
+
         Contexts.Builder contextsBuilder = new Contexts.Builder(
                 new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                         notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                         notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE))),
-                new ApplicationContext(),
-                new SingletonContext());
+                        notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
+                        contextSlots(this.beans, RequestScoped.class)),
+                new ApplicationContext(contextSlots(this.beans, ApplicationScoped.class)),
+                new SingletonContext(contextSlots(this.beans, Singleton.class)));
 
         // Add custom contexts
         for (Components c : components) {
@@ -192,6 +218,9 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
         this.contexts = contextsBuilder.build();
+        this.virtualThreadExecutor = config.isVirtualThreadExecutor()
+                ? VirtualThreadExecutorService.create(contexts.requestContext)
+                : null;
     }
 
     public void init() {
@@ -350,6 +379,9 @@ public class ArcContainerImpl implements ArcContainer {
 
     @Override
     public ExecutorService getExecutorService() {
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
         ExecutorService executor = executorService;
         return executor != null ? executor : ForkJoinPool.commonPool();
     }
@@ -401,9 +433,17 @@ public class ArcContainerImpl implements ArcContainer {
                 LOGGER.warn("An error occurred during delivery of the @Destroyed(ApplicationScoped.class) event", e);
             }
             contexts.singletonContext.destroy();
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.shutdown();
+            }
 
             // Clear caches
             Reflections.clearCaches();
+            TypeCaches.clearCaches();
+            if (resolved.isBounded()) {
+                LOGGER.debugf("Resolution cache statistics [hits=%s, misses=%s, evictions=%s]", resolved.getHits(),
+                        resolved.getMisses(), resolved.getEvictions());
+            }
             resolved.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -559,6 +599,66 @@ public class ArcContainerImpl implements ArcContainer {
         return resolve(getMatchingBeans(name));
     }
 
+    /**
+     *
+     * @param beans
+     * @param scope
+     * @return the number of slots needed to store the instances of beans with the given scope, or zero if the context indexes
+     *         cannot be used
+     * @see InjectableBean#getContextIndex()
+     */
+    static int contextSlots(List<InjectableBean<?>> beans, Class<? extends Annotation> scope) {
+        BitSet indexes = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getContextIndex();
+            if (index < 0 || !scope.equals(bean.getScope())) {
+                continue;
+            }
+            if (indexes.get(index)) {
+                // E.g. multiple deployments were generated separately
+                LOGGER.debugf("Duplicate context index found for %s - context indexes are ignored for %s", bean,
+                        scope.getSimpleName());
+                return 0;
+            }
+            indexes.set(index);
+        }
+        return indexes.length();
+    }
+
+    private void preloadResolutions(Collection<PrecomputedResolution> precomputedResolutions) {
+        if (precomputedResolutions == null || precomputedResolutions.isEmpty()) {
+            return;
+        }
+        Map<String, InjectableBean<?>> idToBean = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            idToBean.put(bean.getIdentifier(), bean);
+        }
+        int count = 0;
+        for (PrecomputedResolution resolution : precomputedResolutions) {
+            List<InjectableBean<?>> matching = new ArrayList<>(resolution.getBeanIds().size());
+            for (String beanId : resolution.getBeanIds()) {
+                InjectableBean<?> bean = idToBean.get(beanId);
+                if (bean == null) {
+                    break;
+                }
+                matching.add(bean);
+            }
+            if (matching.size() != resolution.getBeanIds().size()) {
+                // This should never happen but we can always fall back to the resolution at runtime
+                LOGGER.debugf("Unable to preload the resolution - matching bean not found: %s", resolution);
+                continue;
+            }
+            if (resolution.getName() != null) {
+                beansByName.putIfAbsent(resolution.getName(), resolve(matching));
+            } else {
+                resolved.putIfAbsent(new Resolvable(resolution.getRequiredType(),
+                        resolution.getQualifiers().toArray(new Annotation[0])), resolve(matching));
+            }
+            count++;
+        }
+        LOGGER.debugf("Preloaded %s resolutions computed at build time", count);
+    }
+
     private InjectableBean<?> findById(String identifier) {
         for (InjectableBean<?> bean : beans) {
             if (bean.getIdentifier().equals(identifier)) {
@@ -656,7 +756,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        for (InjectableBean<?> bean : getCandidateBeans(resolvable.requiredType)) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -664,6 +764,46 @@ public class ArcContainerImpl implements ArcContainer {
         return matching;
     }
 
+    /**
+     * A bean can only match the required type if at least one of its bean types has the same raw type (boxed if needed).
+     *
+     * @param requiredType
+     * @return the beans that need to be tested for the given required type
+     */
+    private List<InjectableBean<?>> getCandidateBeans(Type requiredType) {
+        Class<?> rawType;
+        if (beansByRawType == null || (rawType = Reflections.getRawType(requiredType)) == null) {
+            return beans;
+        }
+        List<InjectableBean<?>> candidates = beansByRawType.get(Types.boxedClass(rawType));
+        return candidates != null ? candidates : Collections.emptyList();
+    }
+
+    /**
+     *
+     * @param beans
+     * @return the index or {@code null} if the raw type of some bean type cannot be determined
+     */
+    private static Map<Class<?>, List<InjectableBean<?>>> initBeansByRawType(List<InjectableBean<?>> beans) {
+        Map<Class<?>, Set<InjectableBean<?>>> index = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = Reflections.getRawType(type);
+                if (rawType == null) {
+                    // This should never happen but we must not miss the bean during resolution - use the linear scan
+                    LOGGER.debugf("Unable to determine the raw type of %s declared by %s", type, bean);
+                    return null;
+                }
+                index.computeIfAbsent(Types.boxedClass(rawType), k -> new LinkedHashSet<>()).add(bean);
+            }
+        }
+        Map<Class<?>, List<InjectableBean<?>>> beansByRawType = new HashMap<>();
+        for (Map.Entry<Class<?>, Set<InjectableBean<?>>> entry : index.entrySet()) {
+            beansByRawType.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(beansByRawType);
+    }
+
     List<RemovedBean> getMatchingRemovedBeans(Resolvable resolvable) {
         List<RemovedBean> matching = new ArrayList<>();
         for (RemovedBean removedBean : removedBeans.get()) {
@@ -748,25 +888,23 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     *
+     * @param runtimeType
+     * @return the dispatcher generated for the given event type or {@code null}
+     */
+    ObserverDispatcher getObserverDispatcher(Class<?> runtimeType) {
+        return observerDispatchers.get(runtimeType);
+    }
+
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         registeredQualifiers.verify(eventQualifiers);
-        if (observers.isEmpty()) {
+        if (observerIndex.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
-        for (InjectableObserverMethod<?> observer : observers) {
-            if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
-                if (observer.getObservedQualifiers().isEmpty()
-                        || registeredQualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
-                }
-            }
-        }
+        Set<Type> eventTypes = TypeCaches.getTypeClosure(eventType);
         // Observers with smaller priority values are called first
-        resolvedObservers.sort(InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return observerIndex.resolve(eventTypes, eventQualifiers, registeredQualifiers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -924,7 +1062,12 @@ public class ArcContainerImpl implements ArcContainer {
         public int hashCode() {
             final int prime = 31;
             int result = 1;
-            result = prime * result + Arrays.hashCode(qualifiers);
+            // The order of qualifiers does not matter
+            int qualifiersHash = 0;
+            for (Annotation qualifier : qualifiers) {
+                qualifiersHash += qualifier.hashCode();
+            }
+            result = prime * result + qualifiersHash;
             result = prime * result + (requiredType == null ? 0 : requiredType.hashCode());
             return result;
         }
@@ -948,7 +1091,36 @@ public class ArcContainerImpl implements ArcContainer {
             } else if (!requiredType.equals(other.requiredType)) {
                 return false;
             }
-            return Arrays.equals(qualifiers, other.qualifiers);
+            return qualifiersEqual(qualifiers, other.qualifiers);
+        }
+
+        private static boolean qualifiersEqual(Annotation[] qualifiers1, Annotation[] qualifiers2) {
+            if (qualifiers1.length != qualifiers2.length) {
+                return false;
+            }
+            if (Arrays.equals(qualifiers1, qualifiers2)) {
+                return true;
+            }
+            for (Annotation qualifier : qualifiers1) {
+                if (!contains(qualifiers2, qualifier)) {
+                    return false;
+                }
+            }
+            for (Annotation qualifier : qualifiers2) {
+                if (!contains(qualifiers1, qualifier)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(Annotation[] qualifiers, Annotation qualifier) {
+            for (Annotation q : qualifiers) {
+                if (q.equals(qualifier)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
     }
@@ -33,6 +33,13 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         this.aroundInvokeForward = aroundInvokeForward;
     }
 
+    AroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata, Object[] parameters,
+            ContextDataMap contextData, int position, Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, metadata, parameters, contextData);
+        this.position = position;
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
     static Object perform(Object target, Method method,
             Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
             List<InterceptorInvocation> chain,
@@ -42,13 +49,24 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
                 parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
     }
 
+    static Object perform(Object target, InterceptedMethodMetadata metadata,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters) throws Exception {
+        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, metadata, parameters, null, 1,
+                aroundInvokeForward));
+    }
+
     @Override
     public Object proceed() throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                // The context data map is shared by all contexts in the chain
+                AroundInvokeInvocationContext next = metadata != null
+                        ? new AroundInvokeInvocationContext(target, metadata, parameters, (ContextDataMap) getContextData(),
+                                position + 1, aroundInvokeForward)
+                        : new AroundInvokeInvocationContext(target, method, parameters, (ContextDataMap) getContextData(),
+                                interceptorBindings, position + 1, chain, aroundInvokeForward);
+                return chain.get(position).invoke(next);
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -23,6 +23,23 @@ public final class ClientProxies {
         return result;
     }
 
+    /**
+     * Client proxies of application scoped beans cache the returned handle and only call this method again once the handle
+     * is invalidated.
+     *
+     * @param applicationContext
+     * @param bean
+     * @return the handle or {@code null} if the application context does not support handles, e.g. a custom context
+     * @see ContextInstanceHandleImpl#isValid()
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        if (applicationContext instanceof ApplicationContext) {
+            return ((ApplicationContext) applicationContext).getContextInstanceHandle(bean, newCreationalContext(bean));
+        }
+        return null;
+    }
+
     public static <T> T getDelegate(InjectableBean<T> bean) {
         List<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
         T result = null;
@@ -0,0 +1,84 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * An alternative to the default {@link ThreadLocalCurrentContextFactory} that stores the states of all scopes created by
+ * this factory in a single per-thread carrier array.
+ * <p>
+ * The default factory uses a separate {@link ThreadLocal} for each normal scope, i.e. a thread with several active contexts
+ * holds one thread-local entry per scope. A thread that uses this factory holds at most one entry, no matter how many
+ * contexts are active. The entry is removed when the last state is removed from the carrier. A {@link CurrentContext} is
+ * bound to a slot of the carrier when it's created.
+ *
+ * @see io.quarkus.arc.ArcInitConfig.Builder#setCurrentContextFactory(CurrentContextFactory)
+ */
+public final class CompactThreadLocalCurrentContextFactory implements CurrentContextFactory {
+
+    // Package-private for testing
+    final ThreadLocal<Object[]> carrier = new ThreadLocal<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new CompactThreadLocalCurrentContext<>(nextSlot.getAndIncrement());
+    }
+
+    private final class CompactThreadLocalCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final int slot;
+
+        CompactThreadLocalCurrentContext(int slot) {
+            this.slot = slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get() {
+            Object[] states = carrier.get();
+            return states != null && slot < states.length ? (T) states[slot] : null;
+        }
+
+        @Override
+        public void set(T state) {
+            if (state == null) {
+                remove();
+                return;
+            }
+            Object[] states = carrier.get();
+            if (states == null) {
+                states = new Object[Math.max(slot + 1, nextSlot.get())];
+                carrier.set(states);
+            } else if (slot >= states.length) {
+                // A scope was registered after the carrier had been created
+                states = Arrays.copyOf(states, Math.max(slot + 1, nextSlot.get()));
+                carrier.set(states);
+            }
+            states[slot] = state;
+        }
+
+        @Override
+        public void remove() {
+            Object[] states = carrier.get();
+            if (states == null || slot >= states.length) {
+                return;
+            }
+            states[slot] = null;
+            for (Object state : states) {
+                if (state != null) {
+                    return;
+                }
+            }
+            // No context is active on this thread
+            carrier.remove();
+        }
+
+    }
+
+}
@@ -1,10 +1,16 @@
 package io.quarkus.arc.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,15 +21,33 @@ import java.util.stream.Collectors;
  * Computing cache backed by a {@link ConcurrentHashMap} which intentionally does not use
  * {@link Map#computeIfAbsent(Object, Function)} and is reentrant.
  * Derived from {@code org.jboss.weld.util.cache.ReentrantMapBackedComputingCache}.
+ * <p>
+ * A cache may be bounded, see {@link #ComputingCache(Function, int)}. A bounded cache evicts the least frequently used
+ * entries once the number of computed entries exceeds the max size. Entries added via {@link #putIfAbsent(Object, Object)}
+ * are pinned, i.e. they are never evicted and do not count towards the max size. A bounded cache also records the number of
+ * hits, misses and evictions.
  *
  * @param <K>
  * @param <V>
  */
 public class ComputingCache<K, V> {
 
+    // Frequency counters saturate so that hot entries do not write to memory on every hit
+    private static final int MAX_FREQUENCY = 15;
+
     private final ConcurrentMap<K, LazyValue<V>> map;
     private final Function<K, V> computingFunction;
 
+    // The following fields are only used by a bounded cache
+    private final int maxSize;
+    private final AtomicInteger size;
+    private final ReentrantLock evictionLock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    // Guarded by evictionLock
+    private int evictedSinceAging;
+
     /**
      * Note that {@link #getValue(Object)} cannot be used if no default computing function is specified.
      */
@@ -32,8 +56,32 @@ public class ComputingCache<K, V> {
     }
 
     public ComputingCache(Function<K, V> computingFunction) {
+        this(computingFunction, 0);
+    }
+
+    /**
+     *
+     * @param computingFunction
+     * @param maxSize the max number of computed entries; a value lower than 1 means that the cache is unbounded
+     */
+    public ComputingCache(Function<K, V> computingFunction, int maxSize) {
         this.map = new ConcurrentHashMap<>();
         this.computingFunction = computingFunction;
+        if (maxSize > 0) {
+            this.maxSize = maxSize;
+            this.size = new AtomicInteger();
+            this.evictionLock = new ReentrantLock();
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+        } else {
+            this.maxSize = 0;
+            this.size = null;
+            this.evictionLock = null;
+            this.hits = null;
+            this.misses = null;
+            this.evictions = null;
+        }
     }
 
     public V getValue(K key) {
@@ -60,22 +108,64 @@ public class ComputingCache<K, V> {
         }
         LazyValue<V> value = map.get(key);
         if (value == null) {
-            value = new LazyValue<V>(supplier);
+            value = maxSize > 0 ? new BoundedValue<V>(supplier, false) : new LazyValue<V>(supplier);
             LazyValue<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
                 value = previous;
+                recordHit(value);
+            } else if (maxSize > 0) {
+                misses.increment();
+                if (size.incrementAndGet() > maxSize) {
+                    evict();
+                }
             }
+        } else {
+            recordHit(value);
         }
         return value.get();
     }
 
+    /**
+     * Associates the given key with a precomputed value, unless the key is already associated with a value. The entry is
+     * never evicted from a bounded cache.
+     *
+     * @param key
+     * @param value
+     * @return the previous value or {@code null} if there was no mapping for the key
+     */
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value);
+        Supplier<V> supplier = new FixedValueSupplier<>(value);
+        LazyValue<V> lazyValue = maxSize > 0 ? new BoundedValue<V>(supplier, true) : new LazyValue<V>(supplier);
+        // Initialize the value so that it's visible to getValueIfPresent() etc.
+        lazyValue.get();
+        LazyValue<V> previous = map.putIfAbsent(key, lazyValue);
+        return previous != null ? previous.get() : null;
+    }
+
     public V remove(K key) {
         LazyValue<V> previous = map.remove(key);
-        return previous != null ? previous.get() : null;
+        if (previous == null) {
+            return null;
+        }
+        if (maxSize > 0 && !((BoundedValue<V>) previous).pinned) {
+            size.decrementAndGet();
+        }
+        return previous.get();
     }
 
     public void clear() {
-        map.clear();
+        if (maxSize > 0) {
+            evictionLock.lock();
+            try {
+                map.clear();
+                size.set(0);
+            } finally {
+                evictionLock.unlock();
+            }
+        } else {
+            map.clear();
+        }
     }
 
     public void forEachValue(Consumer<? super V> action) {
@@ -109,4 +199,129 @@ public class ComputingCache<K, V> {
         return map.isEmpty();
     }
 
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     *
+     * @return {@code true} if the number of computed entries is limited
+     */
+    public boolean isBounded() {
+        return maxSize > 0;
+    }
+
+    /**
+     *
+     * @return the number of lookups that found an existing entry, or zero if the cache is not bounded
+     */
+    public long getHits() {
+        return hits != null ? hits.sum() : 0;
+    }
+
+    /**
+     *
+     * @return the number of lookups that created a new entry, or zero if the cache is not bounded
+     */
+    public long getMisses() {
+        return misses != null ? misses.sum() : 0;
+    }
+
+    /**
+     *
+     * @return the number of evicted entries, or zero if the cache is not bounded
+     */
+    public long getEvictions() {
+        return evictions != null ? evictions.sum() : 0;
+    }
+
+    private void recordHit(LazyValue<V> value) {
+        if (maxSize > 0) {
+            hits.increment();
+            BoundedValue<V> boundedValue = (BoundedValue<V>) value;
+            int frequency = boundedValue.frequency;
+            if (frequency < MAX_FREQUENCY) {
+                // Lost updates are acceptable - the frequency is only an estimate
+                boundedValue.frequency = frequency + 1;
+            }
+        }
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another thread is evicting
+            return;
+        }
+        try {
+            int excess = size.get() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            // Evict some more entries so that the eviction is not performed for every new entry
+            int toEvict = excess + maxSize / 10;
+            // Take a snapshot of the frequencies first because they change concurrently
+            List<EvictionCandidate<K, V>> candidates = new ArrayList<>(size.get());
+            for (Map.Entry<K, LazyValue<V>> entry : map.entrySet()) {
+                BoundedValue<V> value = (BoundedValue<V>) entry.getValue();
+                if (!value.pinned) {
+                    candidates.add(new EvictionCandidate<>(entry.getKey(), value, value.frequency));
+                }
+            }
+            candidates.sort(Comparator.comparingInt(EvictionCandidate::frequency));
+            int evicted = 0;
+            for (EvictionCandidate<K, V> candidate : candidates) {
+                if (evicted == toEvict) {
+                    break;
+                }
+                if (map.remove(candidate.key, candidate.value)) {
+                    size.decrementAndGet();
+                    evicted++;
+                }
+            }
+            evictions.add(evicted);
+            evictedSinceAging += evicted;
+            if (evictedSinceAging >= maxSize) {
+                // Age the remaining entries so that formerly popular entries can be evicted eventually
+                evictedSinceAging = 0;
+                for (LazyValue<V> value : map.values()) {
+                    ((BoundedValue<V>) value).frequency >>>= 1;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class BoundedValue<V> extends LazyValue<V> {
+
+        private final boolean pinned;
+
+        // Approximate number of hits
+        private int frequency;
+
+        BoundedValue(Supplier<V> supplier, boolean pinned) {
+            super(supplier);
+            this.pinned = pinned;
+        }
+
+    }
+
+    private static final class EvictionCandidate<K, V> {
+
+        private final K key;
+        private final LazyValue<V> value;
+        private final int frequency;
+
+        EvictionCandidate(K key, LazyValue<V> value, int frequency) {
+            this.key = key;
+            this.value = value;
+            this.frequency = frequency;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+    }
+
 }
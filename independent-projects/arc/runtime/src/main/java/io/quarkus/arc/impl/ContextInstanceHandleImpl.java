@@ -12,13 +12,26 @@ import io.quarkus.arc.InjectableBean;
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    // Set to false before the instance is destroyed; client proxies that cache the handle check this flag
+    private volatile boolean valid;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
+        this.valid = true;
     }
 
     @Override
     public void destroy() {
+        valid = false;
         destroyInternal();
     }
 
+    /**
+     *
+     * @return {@code true} if the instance was not destroyed yet
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
 }
@@ -172,7 +172,7 @@ class CovariantTypes {
             return true;
         }
 
-        return matches(type1, new HierarchyDiscovery(type2));
+        return matches(type1, TypeCaches.getHierarchy(type2));
     }
 
     private static boolean isAssignableFrom(ParameterizedType type1, ParameterizedType type2) {
@@ -183,7 +183,7 @@ class CovariantTypes {
         if (matches(type1, type2)) {
             return true;
         }
-        return matches(type1, new HierarchyDiscovery(type2));
+        return matches(type1, TypeCaches.getHierarchy(type2));
     }
 
     private static boolean matches(ParameterizedType type1, HierarchyDiscovery type2) {
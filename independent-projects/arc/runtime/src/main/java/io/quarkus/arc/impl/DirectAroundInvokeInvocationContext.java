@@ -0,0 +1,67 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.InjectableInterceptor;
+
+/**
+ * Base class for generated InvocationContexts of AroundInvoke interceptor chains.
+ * <p>
+ * A subclass is generated for each distinct list of interceptors bound to the methods of an intercepted bean. The generated
+ * {@link #proceed()} method invokes the interceptor method at the current position directly, i.e. each interceptor has its
+ * own call site. Like in {@link SyncAroundInvokeInvocationContext}, a single instance is used for the whole chain and the
+ * chain execution cannot be continued asynchronously.
+ */
+public abstract class DirectAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The index of the next interceptor to invoke
+    protected int position;
+
+    protected DirectAroundInvokeInvocationContext(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters, List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) {
+        super(target, method, null, parameters, null, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    protected DirectAroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters) {
+        super(target, metadata, parameters, null);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    /**
+     *
+     * @param position
+     * @return the interceptor instance at the given position
+     */
+    protected final Object interceptorInstance(int position) {
+        return chain.get(position).interceptorInstance;
+    }
+
+    /**
+     *
+     * @param position
+     * @return the interceptor bean at the given position
+     */
+    protected final InjectableInterceptor<?> interceptor(int position) {
+        return chain.get(position).interceptor;
+    }
+
+    /**
+     * Invokes the target method.
+     *
+     * @return the return value
+     */
+    protected final Object forward() {
+        return aroundInvokeForward.apply(this);
+    }
+
+}
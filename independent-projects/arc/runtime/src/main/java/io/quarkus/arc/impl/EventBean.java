@@ -7,9 +7,11 @@ import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
+import io.quarkus.arc.InjectableEvent;
+
 public class EventBean extends BuiltInBean<Event<?>> {
 
-    public static final Set<Type> EVENT_TYPES = Set.of(Event.class, Object.class);
+    public static final Set<Type> EVENT_TYPES = Set.of(Event.class, InjectableEvent.class, Object.class);
 
     @Override
     public Set<Type> getTypes() {
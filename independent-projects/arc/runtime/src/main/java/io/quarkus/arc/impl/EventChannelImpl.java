@@ -0,0 +1,369 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.EventChannel;
+import io.quarkus.arc.EventChannelOptions;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.EventImpl.CollectingExceptionHandler;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * The queue is drained by at most {@link EventChannelOptions#getWorkers()} tasks submitted to the executor. A worker is only
+ * running while there are queued events.
+ *
+ * @param <T>
+ */
+class EventChannelImpl<T> implements EventChannel<T> {
+
+    private static final Logger LOG = Logger.getLogger(EventChannelImpl.class);
+
+    private final EventImpl<T> event;
+    private final BlockingQueue<T> queue;
+    private final int workers;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final AsyncObserverExceptionHandler exceptionHandler;
+
+    private final AtomicInteger activeWorkers;
+    // Publishers that have an event which did not fit in the queue
+    private final Queue<ChannelSubscriber> waitingSubscribers;
+    private final LongAdder delivered;
+    private final LongAdder dropped;
+
+    private volatile boolean closed;
+
+    EventChannelImpl(EventImpl<T> event, EventChannelOptions options, Executor executor,
+            AsyncObserverExceptionHandler exceptionHandler) {
+        this.event = event;
+        this.queue = new ArrayBlockingQueue<>(options.getCapacity());
+        this.workers = options.getWorkers();
+        this.batchSize = options.getBatchSize();
+        this.overflowPolicy = options.getOverflowPolicy();
+        this.executor = executor;
+        this.exceptionHandler = exceptionHandler;
+        this.activeWorkers = new AtomicInteger();
+        this.waitingSubscribers = new ConcurrentLinkedQueue<>();
+        this.delivered = new LongAdder();
+        this.dropped = new LongAdder();
+    }
+
+    @Override
+    public boolean send(T event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        checkNotClosed();
+        boolean queued;
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(event);
+                    queued = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queued = false;
+                }
+                break;
+            case FAIL:
+                if (!queue.offer(event)) {
+                    throw new IllegalStateException("Event channel is full");
+                }
+                queued = true;
+                break;
+            default:
+                queued = queue.offer(event);
+                break;
+        }
+        if (queued) {
+            startWorkers();
+        } else {
+            dropped.increment();
+        }
+        return queued;
+    }
+
+    @Override
+    public Uni<Void> sendAll(Publisher<? extends T> events) {
+        Objects.requireNonNull(events);
+        return Uni.createFrom().emitter(emitter -> {
+            if (closed) {
+                emitter.fail(new IllegalStateException("Event channel is closed"));
+                return;
+            }
+            events.subscribe(new ChannelSubscriber(emitter));
+        });
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("Event channel is closed");
+        }
+    }
+
+    private void startWorkers() {
+        for (;;) {
+            int active = activeWorkers.get();
+            if (active >= workers || queue.isEmpty()) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    activeWorkers.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        List<T> batch = new ArrayList<>(batchSize);
+        List<Notifier<? super T>> notifiers = new ArrayList<>(batchSize);
+        for (;;) {
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                activeWorkers.decrementAndGet();
+                // An event may have been queued after the queue was drained but before the counter was decremented
+                if (queue.isEmpty() || !reactivate()) {
+                    return;
+                }
+                continue;
+            }
+            // There is free space in the queue now
+            notifyWaitingSubscribers();
+            try {
+                deliver(batch, notifiers);
+            } catch (Throwable t) {
+                LOG.errorf(t, "Unable to deliver a batch of %s events", batch.size());
+            }
+            batch.clear();
+            notifiers.clear();
+        }
+    }
+
+    private boolean reactivate() {
+        for (;;) {
+            int active = activeWorkers.get();
+            if (active >= workers) {
+                // Another worker will drain the queue
+                return false;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void deliver(List<T> batch, List<Notifier<? super T>> notifiers) {
+        boolean hasObservers = false;
+        for (T e : batch) {
+            Notifier<? super T> notifier = event.getNotifier(e.getClass());
+            notifiers.add(notifier);
+            hasObservers |= notifier.hasAsyncObservers();
+        }
+        if (!hasObservers) {
+            delivered.add(batch.size());
+            return;
+        }
+        // Observers are notified serially - no need to synchronize the collection
+        CollectingExceptionHandler handler = new CollectingExceptionHandler(new ArrayList<>(), exceptionHandler);
+        ManagedContext requestContext = Arc.container().requestContext();
+        boolean activate = !requestContext.isActive();
+        if (activate) {
+            requestContext.activate();
+        }
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                notifiers.get(i).notifyAsyncInBatch(batch.get(i), handler);
+                delivered.increment();
+            }
+        } finally {
+            if (activate) {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    private void notifyWaitingSubscribers() {
+        int waiting = waitingSubscribers.size();
+        ChannelSubscriber subscriber;
+        // Each subscriber is processed at most once; it may be queued again if there is still no free space
+        while (waiting-- > 0 && (subscriber = waitingSubscribers.poll()) != null) {
+            subscriber.resume();
+        }
+    }
+
+    /**
+     * Requests the events in chunks of {@link EventChannelOptions#getBatchSize()}. An event that does not fit in the queue is
+     * parked and no more events are requested until all parked events are queued.
+     */
+    private final class ChannelSubscriber implements Subscriber<T> {
+
+        private final UniEmitter<? super Void> emitter;
+
+        // The following fields are guarded by this
+        private final ArrayDeque<T> parked;
+        private Subscription subscription;
+        private long outstanding;
+        private boolean upstreamCompleted;
+        private boolean waiting;
+        private boolean terminated;
+
+        ChannelSubscriber(UniEmitter<? super Void> emitter) {
+            this.emitter = emitter;
+            this.parked = new ArrayDeque<>();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            synchronized (this) {
+                this.subscription = subscription;
+                outstanding = batchSize;
+            }
+            emitter.onTermination(this::cancel);
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (item == null) {
+                onError(new NullPointerException("Event cannot be null"));
+                return;
+            }
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (closed) {
+                    terminate(new IllegalStateException("Event channel is closed"));
+                    return;
+                }
+                outstanding--;
+                parked.add(item);
+                flush();
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            emitter.fail(failure);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                upstreamCompleted = true;
+                flush();
+            }
+        }
+
+        /**
+         * Attempts to queue the parked events and requests more events if possible.
+         */
+        synchronized void flush() {
+            boolean queued = false;
+            T item;
+            while ((item = parked.peek()) != null && queue.offer(item)) {
+                parked.poll();
+                queued = true;
+            }
+            if (queued) {
+                startWorkers();
+            }
+            if (terminated) {
+                return;
+            }
+            if (parked.isEmpty()) {
+                if (upstreamCompleted) {
+                    terminated = true;
+                    emitter.complete(null);
+                } else if (outstanding == 0) {
+                    outstanding = batchSize;
+                    subscription.request(batchSize);
+                }
+            } else if (!waiting) {
+                waiting = true;
+                waitingSubscribers.add(this);
+                // A worker may have drained the queue before this subscriber was registered
+                if (queue.remainingCapacity() > 0 && waitingSubscribers.remove(this)) {
+                    resume();
+                }
+            }
+        }
+
+        synchronized void resume() {
+            waiting = false;
+            flush();
+        }
+
+        private void terminate(Throwable failure) {
+            // Guarded by this
+            terminated = true;
+            parked.clear();
+            subscription.cancel();
+            emitter.fail(failure);
+        }
+
+        private synchronized void cancel() {
+            if (!terminated) {
+                terminated = true;
+                parked.clear();
+                subscription.cancel();
+            }
+        }
+
+    }
+
+}
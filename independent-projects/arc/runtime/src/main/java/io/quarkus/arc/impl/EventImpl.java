@@ -8,9 +8,13 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -19,7 +23,6 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.event.Event;
@@ -40,7 +43,12 @@ import jakarta.transaction.TransactionManager;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.EventChannel;
+import io.quarkus.arc.EventChannelOptions;
+import io.quarkus.arc.InjectableEvent;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 
@@ -50,23 +58,43 @@ import io.quarkus.arc.ManagedContext;
  *
  * @param <T>
  */
-class EventImpl<T> implements Event<T> {
+class EventImpl<T> implements InjectableEvent<T> {
 
     private static final int DEFAULT_CACHE_CAPACITY = 4;
+    // Qualifier instances passed to select() may have a high cardinality, e.g. a qualifier with a tenant id member
+    private static final int SELECTED_EVENTS_MAX_SIZE = 32;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    // The root event of an injection point is identified by a null parent in the select key
+    private final boolean root;
+
+    // Child events created by select(); shared by all events created for the same injection point
+    private volatile ComputingCache<SelectKey, EventImpl<?>> selectedEvents;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
-        this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
+        this(eventType, qualifiers, null, true);
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param qualifiers
+     * @param selectedEvents the cache of child events shared by all events created for the same injection point, may be
+     *        {@code null}
+     * @param root {@code true} if the event is not the result of {@link #select(Annotation...)}
+     */
+    EventImpl(Type eventType, Set<Annotation> qualifiers, ComputingCache<SelectKey, EventImpl<?>> selectedEvents,
+            boolean root) {
+        this.selectedEvents = selectedEvents;
+        this.root = root;
+        this.eventType = TypeCaches.canonicalize(initEventType(eventType));
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
@@ -78,6 +106,77 @@ class EventImpl<T> implements Event<T> {
         getNotifier(event.getClass()).notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
     }
 
+    @Override
+    public void fireAll(Collection<? extends T> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+        if (events.isEmpty()) {
+            return;
+        }
+        // Resolve the notifiers first; at most once per runtime type
+        List<Notifier<? super T>> eventNotifiers = new ArrayList<>(events.size());
+        Map<Class<?>, Notifier<? super T>> batchNotifiers = new HashMap<>();
+        Notifier<? super T> txNotifier = null;
+        boolean activateRequestContext = false;
+        for (T event : events) {
+            Objects.requireNonNull(event, "Event cannot be null");
+            Notifier<? super T> notifier = batchNotifiers.get(event.getClass());
+            if (notifier == null) {
+                notifier = getNotifier(event.getClass());
+                batchNotifiers.put(event.getClass(), notifier);
+                if (txNotifier == null && notifier.hasTxObservers()) {
+                    txNotifier = notifier;
+                }
+                activateRequestContext |= notifier.activateRequestContextSync;
+            }
+            eventNotifiers.add(notifier);
+        }
+
+        // Register a single JTA synchronization for the whole batch
+        TxRegistration txRegistration = TxRegistration.NONE;
+        List<DeferredEventNotification<?>> deferredEvents = null;
+        if (txNotifier != null && isTransactionActive(txNotifier.transactionManager())) {
+            // Deferred notifications are added while the events are processed
+            deferredEvents = new ArrayList<>();
+            txRegistration = registerSynchronization(txNotifier.transactionManager(),
+                    new ArcSynchronization(deferredEvents));
+        }
+
+        if (activateRequestContext) {
+            ManagedContext requestContext = Arc.container().requestContext();
+            if (requestContext.isActive()) {
+                notifyAll(events, eventNotifiers, txRegistration, deferredEvents);
+            } else {
+                try {
+                    requestContext.activate();
+                    notifyAll(events, eventNotifiers, txRegistration, deferredEvents);
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        } else {
+            notifyAll(events, eventNotifiers, txRegistration, deferredEvents);
+        }
+    }
+
+    private void notifyAll(Collection<? extends T> events, List<Notifier<? super T>> eventNotifiers,
+            TxRegistration txRegistration, List<DeferredEventNotification<?>> deferredEvents) {
+        int idx = 0;
+        for (T event : events) {
+            eventNotifiers.get(idx++).notifyInBatch(event, txRegistration, deferredEvents);
+        }
+    }
+
+    @Override
+    public EventChannel<T> openChannel(EventChannelOptions options) {
+        Objects.requireNonNull(options);
+        Executor executor = options.getExecutor();
+        if (executor == null) {
+            executor = Arc.container().getExecutorService();
+        }
+        return new EventChannelImpl<>(this, options, executor,
+                Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+    }
+
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event) {
         return fireAsync(event, EMPTY_OPTIONS);
@@ -95,10 +194,23 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (NotificationMode.from(options) == NotificationMode.PARALLEL) {
+            // Observers are notified concurrently - the collection must be synchronized
+            ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                    Collections.synchronizedList(new ArrayList<>()),
+                    Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+            CompletableFuture<U> completableFuture = notifier.notifyAsyncParallel(event, exceptionHandler, executor)
+                    .thenApply(ignored -> {
+                        handleExceptions(exceptionHandler);
+                        return event;
+                    });
+            return new AsyncEventDeliveryStage<>(completableFuture, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -115,7 +227,7 @@ class EventImpl<T> implements Event<T> {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
-    private Notifier<? super T> getNotifier(Class<?> runtimeType) {
+    Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
@@ -124,31 +236,48 @@ class EventImpl<T> implements Event<T> {
     }
 
     @Override
-    public Event<T> select(Annotation... qualifiers) {
-        ArcContainerImpl.instance().registeredQualifiers.verify(qualifiers);
-        Set<Annotation> mergedQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergedQualifiers, qualifiers);
-        return new EventImpl<T>(eventType, mergedQualifiers);
+    public InjectableEvent<T> select(Annotation... qualifiers) {
+        return selectEvent(eventType, qualifiers);
     }
 
     @Override
-    public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
-        ArcContainerImpl.instance().registeredQualifiers.verify(qualifiers);
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergerdQualifiers, qualifiers);
-        return new EventImpl<U>(subtype, mergerdQualifiers);
+    public <U extends T> InjectableEvent<U> select(Class<U> subtype, Annotation... qualifiers) {
+        return selectEvent(subtype, qualifiers);
     }
 
     @Override
-    public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
-        ArcContainerImpl.instance().registeredQualifiers.verify(qualifiers);
+    public <U extends T> InjectableEvent<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         if (Types.containsTypeVariable(subtype.getType())) {
+            ArcContainerImpl.instance().registeredQualifiers.verify(qualifiers);
             throw new IllegalArgumentException(
                     "Event#select(TypeLiteral, Annotation...) cannot be used with type variable parameter");
         }
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergerdQualifiers, qualifiers);
-        return new EventImpl<U>(subtype.getType(), mergerdQualifiers);
+        return selectEvent(subtype.getType(), qualifiers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> InjectableEvent<U> selectEvent(Type subtype, Annotation[] qualifiers) {
+        ComputingCache<SelectKey, EventImpl<?>> selectedEvents = this.selectedEvents;
+        if (selectedEvents == null) {
+            // Lazily initialized for events that are not created for an injection point, e.g. BeanManager#getEvent()
+            selectedEvents = newSelectedEvents();
+            this.selectedEvents = selectedEvents;
+        }
+        // Qualifiers are only verified when a new child event is created
+        return (InjectableEvent<U>) selectedEvents.computeIfAbsent(new SelectKey(root ? null : this, subtype, qualifiers),
+                new Supplier<EventImpl<?>>() {
+                    @Override
+                    public EventImpl<?> get() {
+                        ArcContainerImpl.instance().registeredQualifiers.verify(qualifiers);
+                        Set<Annotation> mergedQualifiers = new HashSet<>(EventImpl.this.qualifiers);
+                        Collections.addAll(mergedQualifiers, qualifiers);
+                        return new EventImpl<U>(subtype, mergedQualifiers, EventImpl.this.selectedEvents, false);
+                    }
+                });
+    }
+
+    static ComputingCache<SelectKey, EventImpl<?>> newSelectedEvents() {
+        return new ComputingCache<>(null, SELECTED_EVENTS_MAX_SIZE);
     }
 
     private Notifier<? super T> createNotifier(Class<?> runtimeType) {
@@ -166,7 +295,8 @@ class EventImpl<T> implements Event<T> {
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
         List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
                 container.resolveObservers(eventType, qualifiers));
-        return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
+        return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext,
+                container.getObserverDispatcher(runtimeType));
     }
 
     private Type initEventType(Type type) {
@@ -180,15 +310,16 @@ class EventImpl<T> implements Event<T> {
     }
 
     private Type getEventType(Class<?> runtimeType) {
-        Type resolvedType = runtimeType;
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
-             * infer the parameterized type of
-             * the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+        if (!Types.containsTypeVariable(runtimeType)) {
+            return runtimeType;
         }
+        /*
+         * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
+         * infer the parameterized type of
+         * the event types.
+         */
+        HierarchyDiscovery injectionPointTypeHierarchy = TypeCaches.getHierarchy(eventType);
+        Type resolvedType = injectionPointTypeHierarchy.resolveType(runtimeType);
         if (Types.containsTypeVariable(resolvedType)) {
             /*
              * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
@@ -198,10 +329,10 @@ class EventImpl<T> implements Event<T> {
             Type canonicalEventType = Types.getCanonicalType(runtimeType);
             TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
                     injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
-                    new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
+                    TypeCaches.getHierarchy(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
             resolvedType = objectTypeResolver.resolveType(canonicalEventType);
         }
-        return resolvedType;
+        return TypeCaches.canonicalize(resolvedType);
     }
 
     private void handleExceptions(ObserverExceptionHandler handler) {
@@ -223,112 +354,268 @@ class EventImpl<T> implements Event<T> {
 
     static class Notifier<T> {
 
+        @SuppressWarnings("rawtypes")
+        private static final ObserverMethod[] NO_OBSERVERS = new ObserverMethod[0];
+
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
         final EventMetadata eventMetadata;
-        private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        // The request context is only activated for sync observers if at least one of them may need it
+        private final boolean activateRequestContextSync;
+
+        // Observers partitioned ahead of time; the original order is preserved in each array
+        // Synchronous observers, including transactional observers
+        private final ObserverMethod<? super T>[] syncObservers;
+        // Synchronous non-transactional observers
+        private final ObserverMethod<? super T>[] nonTxObservers;
+        // Synchronous observers except for AFTER_SUCCESS observers
+        private final ObserverMethod<? super T>[] nonAfterSuccessObservers;
+        private final ObserverMethod<? super T>[] asyncObservers;
+        // Async observers grouped by priority; used in the parallel notification mode
+        private final ObserverMethod<? super T>[][] asyncObserverGroups;
+        // Transactional observers; BEFORE_COMPLETION observers first, then AFTER_COMPLETION, AFTER_SUCCESS and AFTER_FAILURE
+        private final ObserverMethod<? super T>[] txObservers;
+        // The dispatcher generated for the runtime type; only used to notify sync observers if there are no tx observers
+        private final ObserverDispatcher dispatcher;
+
+        // Resolved lazily when an event is fired for the first time and transactional observers exist
+        private volatile InstanceHandle<TransactionManager> transactionManager;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
-            this(runtimeType, observerMethods, eventMetadata, true);
+            this(runtimeType, observerMethods, eventMetadata, true, null);
         }
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata,
-                boolean activateRequestContext) {
+                boolean activateRequestContext, ObserverDispatcher dispatcher) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
-            this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
+            List<ObserverMethod<? super T>> sync = new ArrayList<>();
+            List<ObserverMethod<? super T>> nonTx = new ArrayList<>();
+            List<ObserverMethod<? super T>> nonAfterSuccess = new ArrayList<>();
+            List<ObserverMethod<? super T>> async = new ArrayList<>();
+            List<ObserverMethod<? super T>> beforeCompletion = new ArrayList<>();
+            List<ObserverMethod<? super T>> afterCompletion = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    async.add(observerMethod);
+                    continue;
+                }
+                sync.add(observerMethod);
+                TransactionPhase phase = observerMethod.getTransactionPhase();
+                if (phase == TransactionPhase.IN_PROGRESS) {
+                    nonTx.add(observerMethod);
+                } else if (phase == TransactionPhase.BEFORE_COMPLETION) {
+                    beforeCompletion.add(observerMethod);
+                } else {
+                    afterCompletion.add(observerMethod);
+                }
+                if (phase != TransactionPhase.AFTER_SUCCESS) {
+                    nonAfterSuccess.add(observerMethod);
+                }
+            }
+            beforeCompletion.addAll(afterCompletion);
+            this.activateRequestContextSync = activateRequestContext && isRequestContextRequired(sync);
+            this.syncObservers = toArray(sync);
+            this.asyncObservers = toArray(async);
+            this.asyncObserverGroups = groupByPriority(async);
+            this.txObservers = toArray(beforeCompletion);
+            if (txObservers.length == 0) {
+                // Share the array so that the sync observers are always recognized
+                this.nonTxObservers = syncObservers;
+                this.nonAfterSuccessObservers = syncObservers;
+                this.dispatcher = dispatcher != null && dispatcher.matches(syncObservers) ? dispatcher : null;
+            } else {
+                this.nonTxObservers = toArray(nonTx);
+                this.nonAfterSuccessObservers = toArray(nonAfterSuccess);
+                this.dispatcher = null;
+            }
         }
 
         void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
-        @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
-
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
-
-                if (!async && hasTxObservers) {
-                    // Note that tx observers are never async
-                    InstanceHandle<TransactionManager> transactionManagerInstance = Arc.container()
-                            .instance(TransactionManager.class);
-
+            ObserverMethod<? super T>[] observers = async ? asyncObservers : syncObservers;
+            if (observers.length == 0) {
+                return;
+            }
+            if (!async && txObservers.length > 0) {
+                // Note that tx observers are never async
+                observers = registerTxObservers(event);
+            }
+            // Non-tx observers notifications
+            if (async ? activateRequestContext : activateRequestContextSync) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    notifyObservers(event, exceptionHandler, observers);
+                } else {
                     try {
-                        if (transactionManagerInstance.isAvailable() &&
-                                transactionManagerInstance.get().getStatus() == jakarta.transaction.Status.STATUS_ACTIVE) {
-                            // we have one or more transactional OM, and TransactionManager is available
-                            // we attempt to register a JTA synchronization
-                            List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
-                            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-
-                            for (ObserverMethod<? super T> om : observerMethods) {
-                                if (isTxObserver(om)) {
-                                    deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
-                                            Status.valueOf(om.getTransactionPhase())));
-                                }
-                            }
-
-                            Synchronization sync = new ArcSynchronization(deferredEvents);
-                            TransactionManager txManager = transactionManagerInstance.get();
-                            try {
-                                // NOTE - We are using standard synchronization on purpose as that seems more
-                                // fitting than interposed sync. Either way will have some use-cases that won't work.
-                                // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
-                                txManager.getTransaction().registerSynchronization(sync);
-                                // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(this::isNotTxObserver);
-                            } catch (Exception e) {
-                                if (e.getCause() instanceof RollbackException
-                                        || e.getCause() instanceof IllegalStateException
-                                        || e.getCause() instanceof SystemException) {
-                                    // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(this::isNotAfterSuccess);
-                                }
-                            }
-                        }
-                    } catch (SystemException e) {
-                        // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
-                        // determine if we should register some synchronization, therefore, we only log this
-                        LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
-                                e.getCause() != null ? e.getCause() : e);
+                        requestContext.activate();
+                        notifyObservers(event, exceptionHandler, observers);
+                    } finally {
+                        requestContext.terminate();
                     }
                 }
+            } else {
+                notifyObservers(event, exceptionHandler, observers);
+            }
+        }
 
-                // Non-tx observers notifications
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
-                    }
-                } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+        /**
+         * Notifies the async observers with the same priority concurrently. The groups of observers are notified in the
+         * order of their priorities.
+         *
+         * @param event
+         * @param exceptionHandler must be thread-safe
+         * @param executor
+         * @return the future completed when all observers were notified
+         */
+        CompletableFuture<Void> notifyAsyncParallel(T event, ObserverExceptionHandler exceptionHandler,
+                Executor executor) {
+            CompletableFuture<Void> result = notifyAsyncGroup(event, exceptionHandler, executor, asyncObserverGroups[0]);
+            for (int i = 1; i < asyncObserverGroups.length; i++) {
+                ObserverMethod<? super T>[] group = asyncObserverGroups[i];
+                result = result.thenCompose(ignored -> notifyAsyncGroup(event, exceptionHandler, executor, group));
+            }
+            return result;
+        }
+
+        private CompletableFuture<Void> notifyAsyncGroup(T event, ObserverExceptionHandler exceptionHandler,
+                Executor executor, ObserverMethod<? super T>[] group) {
+            if (group.length == 1) {
+                return CompletableFuture.runAsync(() -> notifyAsyncObserver(event, exceptionHandler, group[0]), executor);
+            }
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[group.length];
+            for (int i = 0; i < group.length; i++) {
+                ObserverMethod<? super T> observerMethod = group[i];
+                futures[i] = CompletableFuture.runAsync(() -> notifyAsyncObserver(event, exceptionHandler, observerMethod),
+                        executor);
+            }
+            return CompletableFuture.allOf(futures);
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notifyAsyncObserver(T event, ObserverExceptionHandler exceptionHandler,
+                ObserverMethod<? super T> observerMethod) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            ManagedContext requestContext = activateRequestContext ? Arc.container().requestContext() : null;
+            boolean activate = requestContext != null && !requestContext.isActive();
+            try {
+                if (activate) {
+                    requestContext.activate();
+                }
+                observerMethod.notify(eventContext);
+            } catch (Throwable t) {
+                exceptionHandler.handle(t, observerMethod, eventContext);
+            } finally {
+                if (activate) {
+                    requestContext.terminate();
                 }
             }
         }
 
+        /**
+         * Attempts to register a JTA synchronization for the transactional observers.
+         *
+         * @param event
+         * @return the observers that should be notified immediately
+         */
+        private ObserverMethod<? super T>[] registerTxObservers(T event) {
+            InstanceHandle<TransactionManager> transactionManagerInstance = transactionManager();
+            if (!isTransactionActive(transactionManagerInstance)) {
+                return syncObservers;
+            }
+            // we have one or more transactional OM, and TransactionManager is available
+            // we attempt to register a JTA synchronization
+            List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>(txObservers.length);
+            addDeferredNotifications(event, deferredEvents);
+            return syncObservers(registerSynchronization(transactionManagerInstance, new ArcSynchronization(deferredEvents)));
+        }
+
+        /**
+         * Notifies the synchronous observers of an event fired as part of a batch. The request context is activated and the
+         * JTA synchronization is registered by the caller.
+         *
+         * @param event
+         * @param txRegistration
+         * @param deferredEvents the list held by the registered synchronization, may be {@code null}
+         */
+        void notifyInBatch(T event, TxRegistration txRegistration, List<DeferredEventNotification<?>> deferredEvents) {
+            if (txRegistration == TxRegistration.REGISTERED && txObservers.length > 0) {
+                addDeferredNotifications(event, deferredEvents);
+            }
+            ObserverMethod<? super T>[] observers = syncObservers(txRegistration);
+            if (observers.length > 0) {
+                notifyObservers(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, observers);
+            }
+        }
+
+        /**
+         * Notifies the asynchronous observers of an event delivered by an {@link io.quarkus.arc.EventChannel}. The request
+         * context is activated by the caller.
+         *
+         * @param event
+         * @param exceptionHandler
+         */
+        void notifyAsyncInBatch(T event, ObserverExceptionHandler exceptionHandler) {
+            if (asyncObservers.length > 0) {
+                notifyObservers(event, exceptionHandler, asyncObservers);
+            }
+        }
+
+        private void addDeferredNotifications(T event, List<DeferredEventNotification<?>> deferredEvents) {
+            EventContext<T> eventContext = new EventContextImpl<>(event, eventMetadata);
+            for (ObserverMethod<? super T> om : txObservers) {
+                deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
+                        Status.valueOf(om.getTransactionPhase())));
+            }
+        }
+
+        private ObserverMethod<? super T>[] syncObservers(TxRegistration txRegistration) {
+            switch (txRegistration) {
+                case REGISTERED:
+                    // registration succeeded, notify all non-tx observers synchronously
+                    return nonTxObservers;
+                case FAILED:
+                    // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
+                    return nonAfterSuccessObservers;
+                default:
+                    return syncObservers;
+            }
+        }
+
+        private InstanceHandle<TransactionManager> transactionManager() {
+            InstanceHandle<TransactionManager> handle = transactionManager;
+            if (handle == null) {
+                // A benign race - the handle may be resolved multiple times
+                handle = Arc.container().instance(TransactionManager.class);
+                transactionManager = handle;
+            }
+            return handle;
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                ObserverMethod<? super T>[] observers) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
-                    try {
-                        observerMethod.notify(eventContext);
-                    } catch (Throwable t) {
-                        exceptionHandler.handle(t, observerMethod, eventContext);
-                    }
+            if (dispatcher != null && observers == syncObservers
+                    && exceptionHandler == ObserverExceptionHandler.IMMEDIATE_HANDLER) {
+                try {
+                    dispatcher.dispatch(eventContext, observers);
+                } catch (Throwable t) {
+                    exceptionHandler.handle(t, null, eventContext);
+                }
+                return;
+            }
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                try {
+                    observerMethod.notify(eventContext);
+                } catch (Throwable t) {
+                    exceptionHandler.handle(t, observerMethod, eventContext);
                 }
             }
         }
@@ -337,18 +624,94 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
-        private boolean isTxObserver(ObserverMethod<?> observer) {
-            return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
+        static boolean isRequestContextRequired(ObserverMethod<?> observerMethod) {
+            // Observers that are not managed by ArC may always need the request context
+            return !(observerMethod instanceof InjectableObserverMethod)
+                    || ((InjectableObserverMethod<?>) observerMethod).isRequestContextRequired();
+        }
+
+        private static boolean isRequestContextRequired(List<? extends ObserverMethod<?>> observerMethods) {
+            for (ObserverMethod<?> observerMethod : observerMethods) {
+                if (isRequestContextRequired(observerMethod)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
-        private boolean isNotAfterSuccess(ObserverMethod<?> observer) {
-            return !observer.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS);
+        boolean hasAsyncObservers() {
+            return asyncObservers.length > 0;
         }
 
-        private boolean isNotTxObserver(ObserverMethod<?> observer) {
-            return !isTxObserver(observer);
+        boolean hasSyncObservers() {
+            return syncObservers.length > 0;
         }
 
+        boolean hasTxObservers() {
+            return txObservers.length > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[][] groupByPriority(List<ObserverMethod<? super T>> observers) {
+            // Observers are already sorted by priority
+            List<ObserverMethod<? super T>[]> groups = new ArrayList<>();
+            int start = 0;
+            for (int i = 1; i <= observers.size(); i++) {
+                if (i == observers.size() || observers.get(i).getPriority() != observers.get(start).getPriority()) {
+                    groups.add(toArray(observers.subList(start, i)));
+                    start = i;
+                }
+            }
+            return groups.toArray(new ObserverMethod[0][]);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] toArray(List<ObserverMethod<? super T>> observers) {
+            return observers.isEmpty() ? NO_OBSERVERS : observers.toArray(new ObserverMethod[0]);
+        }
+
+    }
+
+    static boolean isTransactionActive(InstanceHandle<TransactionManager> transactionManagerInstance) {
+        try {
+            return transactionManagerInstance.isAvailable()
+                    && transactionManagerInstance.get().getStatus() == jakarta.transaction.Status.STATUS_ACTIVE;
+        } catch (SystemException e) {
+            // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
+            // determine if we should register some synchronization, therefore, we only log this
+            LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
+                    e.getCause() != null ? e.getCause() : e);
+            return false;
+        }
+    }
+
+    static TxRegistration registerSynchronization(InstanceHandle<TransactionManager> transactionManagerInstance,
+            Synchronization sync) {
+        try {
+            // NOTE - We are using standard synchronization on purpose as that seems more
+            // fitting than interposed sync. Either way will have some use-cases that won't work.
+            // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
+            transactionManagerInstance.get().getTransaction().registerSynchronization(sync);
+            return TxRegistration.REGISTERED;
+        } catch (Exception e) {
+            if (e.getCause() instanceof RollbackException
+                    || e.getCause() instanceof IllegalStateException
+                    || e.getCause() instanceof SystemException) {
+                return TxRegistration.FAILED;
+            }
+            return TxRegistration.NONE;
+        }
+    }
+
+    /**
+     * The result of an attempt to register a JTA synchronization for transactional observers.
+     */
+    enum TxRegistration {
+        // No active transaction or the registration was not attempted
+        NONE,
+        REGISTERED,
+        // The registration failed; AFTER_SUCCESS observers must not be notified
+        FAILED,
     }
 
     static class EventContextImpl<T> implements EventContext<T> {
@@ -374,6 +737,42 @@ class EventImpl<T> implements Event<T> {
 
     }
 
+    static final class SelectKey {
+
+        // null if the parent is the root event of an injection point
+        private final EventImpl<?> parent;
+        private final Type type;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        SelectKey(EventImpl<?> parent, Type type, Annotation[] qualifiers) {
+            this.parent = parent;
+            this.type = type;
+            // The array may be reused by the caller
+            this.qualifiers = qualifiers.length == 0 ? qualifiers : qualifiers.clone();
+            this.hashCode = 31 * (31 * System.identityHashCode(parent) + type.hashCode()) + Arrays.hashCode(qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectKey)) {
+                return false;
+            }
+            SelectKey other = (SelectKey) obj;
+            return parent == other.parent && hashCode == other.hashCode && type.equals(other.type)
+                    && Arrays.equals(qualifiers, other.qualifiers);
+        }
+
+    }
+
     static class EventMetadataImpl implements EventMetadata {
 
         private final Set<Annotation> qualifiers;
@@ -459,6 +858,10 @@ class EventImpl<T> implements Event<T> {
         @Override
         public void run() {
             try {
+                if (!Notifier.isRequestContextRequired(observerMethod)) {
+                    observerMethod.notify(eventContext);
+                    return;
+                }
                 ManagedContext reqContext = Arc.container().requestContext();
                 if (reqContext.isActive()) {
                     observerMethod.notify(eventContext);
@@ -19,14 +19,18 @@ public class EventProvider<T> implements InjectableReferenceProvider<Event<T>> {
 
     private final Set<Annotation> eventQualifiers;
 
+    // Child events created by Event#select() are shared by all events created for this injection point
+    private final ComputingCache<EventImpl.SelectKey, EventImpl<?>> selectedEvents;
+
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
+        this.selectedEvents = EventImpl.newSelectedEvents();
     }
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return new EventImpl<>(eventType, eventQualifiers);
+        return new EventImpl<>(eventType, eventQualifiers, selectedEvents, true);
     }
 
 }
@@ -38,7 +38,11 @@ final class EventTypeAssignabilityRules {
     }
 
     public boolean matches(Type observedType, Type eventType) {
-        return matchesNoBoxing(Types.boxedType(observedType), Types.boxedType(eventType));
+        if (observedType instanceof Class<?> && eventType instanceof Class<?>) {
+            // Not worth caching
+            return matchesNoBoxing(Types.boxedType(observedType), Types.boxedType(eventType));
+        }
+        return TypeCaches.isEventTypeAssignable(observedType, eventType);
     }
 
     boolean matchesNoBoxing(Type observedType, Type eventType) {
@@ -8,6 +8,7 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -44,7 +45,8 @@ class HierarchyDiscovery {
         this.resolver = resolver;
         this.resolvedTypeVariables = resolver.getResolvedTypeVariables();
         discoverTypes(type, false);
-        this.typeClosure = new HashSet<>(types.values());
+        // Hierarchies are cached and shared, see TypeCaches
+        this.typeClosure = Collections.unmodifiableSet(new HashSet<>(types.values()));
     }
 
     public Set<Type> getTypeClosure() {
@@ -2,7 +2,11 @@ package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class InterceptedMethodMetadata {
@@ -10,11 +14,85 @@ public class InterceptedMethodMetadata {
     public final List<InterceptorInvocation> chain;
     public final Method method;
     public final Set<Annotation> bindings;
+    // The category of the return type; determined at build time if possible
+    public final ReactiveType reactiveType;
+    // Annotation type -> unmodifiable list of bindings; avoids the iteration over bindings when an interceptor looks up a binding
+    private final Map<Class<? extends Annotation>, List<Annotation>> bindingsByType;
 
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings) {
+        this(chain, method, bindings, null);
+    }
+
+    /**
+     *
+     * @param chain
+     * @param method
+     * @param bindings
+     * @param reactiveType the return type category, or {@code null} if it should be determined from the method
+     */
+    public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
+            ReactiveType reactiveType) {
         this.chain = chain;
         this.method = method;
         this.bindings = bindings;
+        this.reactiveType = reactiveType != null ? reactiveType : ReactiveType.valueOf(method);
+        this.bindingsByType = indexBindings(bindings);
+    }
+
+    /**
+     * The method, the bindings, the return type category and the index of bindings are taken from the shared metadata, i.e.
+     * they are only computed once for each intercepted method and not for each intercepted instance.
+     *
+     * @param chain
+     * @param shared the metadata shared by all instances of an intercepted bean; its chain is ignored
+     */
+    public InterceptedMethodMetadata(List<InterceptorInvocation> chain, InterceptedMethodMetadata shared) {
+        this.chain = chain;
+        this.method = shared.method;
+        this.bindings = shared.bindings;
+        this.reactiveType = shared.reactiveType;
+        this.bindingsByType = shared.bindingsByType;
+    }
+
+    /**
+     *
+     * @param annotationType
+     * @return the first interceptor binding of the given annotation type, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Annotation> T findBinding(Class<T> annotationType) {
+        List<Annotation> found = bindingsByType.get(annotationType);
+        return found != null ? (T) found.get(0) : null;
+    }
+
+    /**
+     *
+     * @param annotationType
+     * @return the unmodifiable list of interceptor bindings of the given annotation type
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Annotation> List<T> findBindings(Class<T> annotationType) {
+        List<Annotation> found = bindingsByType.get(annotationType);
+        return found != null ? (List<T>) found : Collections.emptyList();
+    }
+
+    private static Map<Class<? extends Annotation>, List<Annotation>> indexBindings(Set<Annotation> bindings) {
+        if (bindings.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (bindings.size() == 1) {
+            Annotation binding = bindings.iterator().next();
+            return Collections.singletonMap(binding.annotationType(), Collections.singletonList(binding));
+        }
+        Map<Class<? extends Annotation>, List<Annotation>> index = new HashMap<>();
+        for (Annotation binding : bindings) {
+            // Multiple bindings of the same type are only possible for repeatable bindings
+            index.computeIfAbsent(binding.annotationType(), k -> new ArrayList<>(1)).add(binding);
+        }
+        for (Map.Entry<Class<? extends Annotation>, List<Annotation>> entry : index.entrySet()) {
+            entry.setValue(List.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(index);
     }
 
 }
@@ -8,22 +8,57 @@ import jakarta.interceptor.InvocationContext;
 
 public final class InterceptedStaticMethods {
 
-    private static final ConcurrentMap<String, InterceptedStaticMethod> METHODS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Holder> METHODS = new ConcurrentHashMap<>();
 
     private InterceptedStaticMethods() {
     }
 
     public static void register(String key, InterceptedStaticMethod method) {
-        METHODS.putIfAbsent(key, method);
+        holder(key).register(method);
+    }
+
+    /**
+     * The holder is intended to be stored in a static final field of the class that declares the intercepted static
+     * method. The method is registered in the holder when the container starts. Unlike
+     * {@link #aroundInvoke(String, Object[])}, no map lookup is needed when the intercepted method is invoked.
+     *
+     * @param key
+     * @return the holder for the given key, never {@code null}
+     */
+    public static Holder holder(String key) {
+        Holder holder = METHODS.get(key);
+        if (holder == null) {
+            holder = METHODS.computeIfAbsent(key, Holder::new);
+        }
+        return holder;
     }
 
     public static Object aroundInvoke(String key, Object[] args) throws Exception {
-        InterceptedStaticMethod method = METHODS.get(key);
+        Holder holder = METHODS.get(key);
+        if (holder == null) {
+            throw notFound(key);
+        }
+        return aroundInvoke(holder, args);
+    }
+
+    /**
+     *
+     * @param holder
+     * @param args
+     * @return the return value
+     * @throws Exception
+     * @see #holder(String)
+     */
+    public static Object aroundInvoke(Holder holder, Object[] args) throws Exception {
+        InterceptedStaticMethod method = holder.method;
         if (method == null) {
-            throw new IllegalArgumentException("Intercepted method metadata not found for key: " + key);
+            throw notFound(holder.key);
         }
-        return InvocationContexts.performAroundInvoke(null, method.metadata.method, method.forward, args, method.metadata.chain,
-                method.metadata.bindings);
+        return InvocationContexts.performAroundInvoke(null, method.metadata, method.forward, args);
+    }
+
+    private static IllegalArgumentException notFound(String key) {
+        return new IllegalArgumentException("Intercepted method metadata not found for key: " + key);
     }
 
     public static final class InterceptedStaticMethod {
@@ -38,8 +73,34 @@ public final class InterceptedStaticMethods {
 
     }
 
+    /**
+     * Holds the {@link InterceptedStaticMethod} registered for a specific key.
+     * <p>
+     * A holder is never removed, so that a static final field that references it remains valid when the container is
+     * restarted.
+     */
+    public static final class Holder {
+
+        final String key;
+        volatile InterceptedStaticMethod method;
+
+        Holder(String key) {
+            this.key = key;
+        }
+
+        synchronized void register(InterceptedStaticMethod method) {
+            // The first registration wins
+            if (this.method == null) {
+                this.method = method;
+            }
+        }
+
+    }
+
     static void clear() {
-        METHODS.clear();
+        for (Holder holder : METHODS.values()) {
+            holder.method = null;
+        }
     }
 
 }
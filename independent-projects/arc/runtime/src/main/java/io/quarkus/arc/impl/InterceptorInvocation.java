@@ -26,9 +26,9 @@ public final class InterceptorInvocation {
     private final InterceptionType interceptionType;
 
     @SuppressWarnings("rawtypes")
-    private final InjectableInterceptor interceptor;
+    final InjectableInterceptor interceptor;
 
-    private final Object interceptorInstance;
+    final Object interceptorInstance;
 
     InterceptorInvocation(InterceptionType interceptionType, InjectableInterceptor<?> interceptor,
             Object interceptorInstance) {
@@ -33,6 +33,56 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     *
+     * @param target
+     * @param metadata
+     * @param aroundInvokeForward
+     * @param args
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, InterceptedMethodMetadata metadata,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args) throws Exception {
+        return AroundInvokeInvocationContext.perform(target, metadata, aroundInvokeForward, args);
+    }
+
+    /**
+     * Unlike {@link #performAroundInvoke(Object, Method, Function, Object[], List, Set)}, a single invocation context is used
+     * for the whole interceptor chain. The chain execution cannot be continued asynchronously.
+     *
+     * @param target
+     * @param method
+     * @param aroundInvokeForward
+     * @param args
+     * @param chain
+     * @param interceptorBindings
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performSyncAroundInvoke(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return SyncAroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                interceptorBindings);
+    }
+
+    /**
+     *
+     * @param target
+     * @param metadata
+     * @param aroundInvokeForward
+     * @param args
+     * @return the return value
+     * @throws Exception
+     * @see #performSyncAroundInvoke(Object, Method, Function, Object[], List, Set)
+     */
+    public static Object performSyncAroundInvoke(Object target, InterceptedMethodMetadata metadata,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args) throws Exception {
+        return SyncAroundInvokeInvocationContext.perform(target, metadata, aroundInvokeForward, args);
+    }
+
     /**
      *
      * @param target
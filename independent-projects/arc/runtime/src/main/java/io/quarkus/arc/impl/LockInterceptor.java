@@ -4,8 +4,10 @@ import static jakarta.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
 import java.lang.annotation.Annotation;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import jakarta.annotation.Priority;
 import jakarta.interceptor.AroundInvoke;
@@ -15,13 +17,18 @@ import jakarta.interceptor.InvocationContext;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.quarkus.arc.LockStatistics;
 
 @Lock
 @Interceptor
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    public static final Statistics STATISTICS = new Statistics();
+
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    // Only used to validate optimistic reads; created lazily when an optimistic read is performed for the first time
+    private volatile StampedLock stampedLock;
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
@@ -31,6 +38,8 @@ public class LockInterceptor {
                 return writeLock(lock, ctx);
             case READ:
                 return readLock(lock, ctx);
+            case OPTIMISTIC_READ:
+                return optimisticRead(lock, ctx);
             case NONE:
                 return ctx.proceed();
         }
@@ -38,57 +47,141 @@ public class LockInterceptor {
     }
 
     private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+        acquire(readWriteLock.writeLock(), lock, "Write");
+        StampedLock stampedLock = null;
+        long stamp = 0;
         try {
-            if (time > 0) {
-                locked = readWriteLock.writeLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
+            // Invalidate the optimistic reads; the write lock of the stamped lock is never contended because it's only
+            // acquired while holding the write lock, and only by the outermost invocation because it's not reentrant
+            if (readWriteLock.getWriteHoldCount() == 1) {
+                stampedLock = this.stampedLock;
+                if (stampedLock != null) {
+                    stamp = stampedLock.writeLock();
                 }
-            } else {
-                readWriteLock.writeLock().lock();
-                locked = true;
             }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.writeLock().unlock();
+            if (stamp != 0) {
+                stampedLock.unlockWrite(stamp);
             }
+            readWriteLock.writeLock().unlock();
         }
     }
 
     private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+        acquire(readWriteLock.readLock(), lock, "Read");
+        try {
+            return ctx.proceed();
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    private Object optimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+        StampedLock stampedLock = this.stampedLock;
+        if (stampedLock == null) {
+            synchronized (this) {
+                stampedLock = this.stampedLock;
+                if (stampedLock == null) {
+                    stampedLock = new StampedLock();
+                    this.stampedLock = stampedLock;
+                }
+            }
+        }
+        long stamp = stampedLock.tryOptimisticRead();
+        // A writer that started before the stamped lock was created does not acquire the stamped lock
+        if (stamp != 0 && !readWriteLock.isWriteLocked()) {
+            Object result;
+            try {
+                result = ctx.proceed();
+            } catch (Exception e) {
+                if (stampedLock.validate(stamp)) {
+                    throw e;
+                }
+                // The exception may be caused by an inconsistent state
+                result = null;
+            }
+            if (stampedLock.validate(stamp)) {
+                return result;
+            }
+            STATISTICS.optimisticReadFailures.increment();
+        }
+        return readLock(lock, ctx);
+    }
+
+    private void acquire(java.util.concurrent.locks.Lock lock, Lock binding, String lockName) throws InterruptedException {
+        // Do not barge in if there are queued threads
+        if (!readWriteLock.hasQueuedThreads() && lock.tryLock()) {
+            return;
+        }
+        long start = System.nanoTime();
         try {
+            long time = binding.time();
             if (time > 0) {
-                locked = readWriteLock.readLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                if (!lock.tryLock(time, binding.unit())) {
+                    STATISTICS.timeouts.increment();
+                    throw new LockException(lockName + " lock not acquired in " + binding.unit().toMillis(time) + " ms");
                 }
             } else {
-                readWriteLock.readLock().lock();
-                locked = true;
+                lock.lock();
             }
-            return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.readLock().unlock();
-            }
+            STATISTICS.contendedAcquisitions.increment();
+            STATISTICS.waitTime.add(System.nanoTime() - start);
         }
     }
 
     @SuppressWarnings("unchecked")
     Lock getLock(InvocationContext ctx) {
-        Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
-        for (Annotation annotation : bindings) {
-            if (annotation.annotationType().equals(Lock.class)) {
-                return (Lock) annotation;
+        if (ctx instanceof ArcInvocationContext) {
+            // Avoid the allocation of the context data map
+            Lock lock = ((ArcInvocationContext) ctx).findIterceptorBinding(Lock.class);
+            if (lock != null) {
+                return lock;
+            }
+        } else {
+            Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData()
+                    .get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+            for (Annotation annotation : bindings) {
+                if (annotation.annotationType().equals(Lock.class)) {
+                    return (Lock) annotation;
+                }
             }
         }
         // This should never happen
         throw new LockException("@Lock binding not found on business method " + ctx.getMethod());
     }
 
+    public static final class Statistics implements LockStatistics {
+
+        private final LongAdder contendedAcquisitions = new LongAdder();
+        private final LongAdder waitTime = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder optimisticReadFailures = new LongAdder();
+
+        private Statistics() {
+        }
+
+        @Override
+        public long getContendedAcquisitions() {
+            return contendedAcquisitions.sum();
+        }
+
+        @Override
+        public long getWaitTime(TimeUnit unit) {
+            return unit.convert(waitTime.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        @Override
+        public long getOptimisticReadFailures() {
+            return optimisticReadFailures.sum();
+        }
+
+    }
+
 }
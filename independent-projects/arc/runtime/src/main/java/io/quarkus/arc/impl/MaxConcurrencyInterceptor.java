@@ -0,0 +1,161 @@
+package io.quarkus.arc.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.MaxConcurrency;
+import io.quarkus.arc.MaxConcurrency.Scope;
+import io.quarkus.arc.MaxConcurrencyException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+@MaxConcurrency(1)
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 50)
+public class MaxConcurrencyInterceptor {
+
+    // Method or binding -> permits
+    private final ConcurrentMap<Object, Semaphore> permits = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object limit(InvocationContext ctx) throws Exception {
+        MaxConcurrency binding = ArcInvocationContext.findIterceptorBinding(ctx, MaxConcurrency.class);
+        if (binding == null) {
+            // This should never happen
+            throw new MaxConcurrencyException("@MaxConcurrency binding not found on business method " + ctx.getMethod());
+        }
+        Semaphore semaphore = getPermits(ctx, binding);
+        ReactiveType reactiveType = ctx instanceof AbstractInvocationContext
+                ? ((AbstractInvocationContext) ctx).getReactiveType()
+                : ReactiveType.valueOf(ctx.getMethod());
+        switch (reactiveType) {
+            case UNI:
+                return invokeUni(ctx, binding, semaphore);
+            case MULTI:
+                return invokeMulti(ctx, binding, semaphore);
+            case STAGE:
+                return invokeStage(ctx, binding, semaphore);
+            default:
+                return invoke(ctx, binding, semaphore);
+        }
+    }
+
+    private Object invoke(InvocationContext ctx, MaxConcurrency binding, Semaphore semaphore) throws Exception {
+        acquire(binding, semaphore, ctx);
+        try {
+            return ctx.proceed();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private CompletionStage<?> invokeStage(InvocationContext ctx, MaxConcurrency binding, Semaphore semaphore) {
+        try {
+            acquire(binding, semaphore, ctx);
+        } catch (Throwable t) {
+            return CompletableFuture.failedStage(t);
+        }
+        CompletionStage<?> result;
+        try {
+            result = (CompletionStage<?>) ctx.proceed();
+        } catch (Throwable t) {
+            semaphore.release();
+            return CompletableFuture.failedStage(t);
+        }
+        if (result == null) {
+            semaphore.release();
+            return CompletableFuture.failedStage(nullResult(ctx));
+        }
+        return result.whenComplete((r, t) -> semaphore.release());
+    }
+
+    private Uni<?> invokeUni(InvocationContext ctx, MaxConcurrency binding, Semaphore semaphore) {
+        return Uni.createFrom().deferred(() -> {
+            try {
+                acquire(binding, semaphore, ctx);
+            } catch (Throwable t) {
+                return Uni.createFrom().failure(t);
+            }
+            Uni<?> result;
+            try {
+                result = (Uni<?>) ctx.proceed();
+            } catch (Throwable t) {
+                semaphore.release();
+                return Uni.createFrom().failure(t);
+            }
+            if (result == null) {
+                semaphore.release();
+                return Uni.createFrom().failure(nullResult(ctx));
+            }
+            return result.onTermination().invoke(semaphore::release);
+        });
+    }
+
+    private Multi<?> invokeMulti(InvocationContext ctx, MaxConcurrency binding, Semaphore semaphore) {
+        return Multi.createFrom().deferred(() -> {
+            try {
+                acquire(binding, semaphore, ctx);
+            } catch (Throwable t) {
+                return Multi.createFrom().failure(t);
+            }
+            Multi<?> result;
+            try {
+                result = (Multi<?>) ctx.proceed();
+            } catch (Throwable t) {
+                semaphore.release();
+                return Multi.createFrom().failure(t);
+            }
+            if (result == null) {
+                semaphore.release();
+                return Multi.createFrom().failure(nullResult(ctx));
+            }
+            return result.onTermination().invoke(semaphore::release);
+        });
+    }
+
+    private void acquire(MaxConcurrency binding, Semaphore semaphore, InvocationContext ctx) throws InterruptedException {
+        if (semaphore.tryAcquire()) {
+            return;
+        }
+        if (binding.failFast()) {
+            throw new MaxConcurrencyException(
+                    "Max concurrency of " + binding.value() + " reached for business method " + ctx.getMethod());
+        }
+        long time = binding.time();
+        if (time > 0) {
+            if (!semaphore.tryAcquire(time, binding.unit())) {
+                throw new MaxConcurrencyException("Permit not acquired in " + binding.unit().toMillis(time)
+                        + " ms for business method " + ctx.getMethod());
+            }
+        } else {
+            semaphore.acquire();
+        }
+    }
+
+    private static NullPointerException nullResult(InvocationContext ctx) {
+        return new NullPointerException("Business method returned null: " + ctx.getMethod());
+    }
+
+    private Semaphore getPermits(InvocationContext ctx, MaxConcurrency binding) {
+        Object key = binding.scope() == Scope.METHOD ? ctx.getMethod() : binding;
+        Semaphore semaphore = permits.get(key);
+        if (semaphore == null) {
+            if (binding.value() < 1) {
+                throw new MaxConcurrencyException("The max concurrency must be greater than zero: " + binding.value()
+                        + " declared for business method " + ctx.getMethod());
+            }
+            semaphore = permits.computeIfAbsent(key, k -> new Semaphore(binding.value()));
+        }
+        return semaphore;
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.quarkus.arc.impl;
+
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Base class for generated observer dispatchers.
+ * <p>
+ * A dispatcher is generated for an event type known at build time. It notifies the synchronous observers of an event of the
+ * exact runtime type in the order of their priorities, using direct method invocations. The contextual instance of a bean
+ * that declares multiple observers is obtained at most once per dispatch.
+ * <p>
+ * The set of observers resolved at runtime may differ, e.g. if the event is fired with qualifiers. Therefore, a dispatcher
+ * is only used if {@link #matches(ObserverMethod[])} returns {@code true} for the resolved observers.
+ */
+public abstract class ObserverDispatcher {
+
+    private final Class<?>[] observerClasses;
+
+    /**
+     *
+     * @param observerClasses the generated classes of observers, in the order in which the observers are notified
+     */
+    protected ObserverDispatcher(Class<?>[] observerClasses) {
+        this.observerClasses = observerClasses;
+    }
+
+    /**
+     *
+     * @param observers
+     * @return {@code true} if this dispatcher can be used to notify the given observers
+     */
+    boolean matches(ObserverMethod<?>[] observers) {
+        if (observers.length != observerClasses.length) {
+            return false;
+        }
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i].getClass() != observerClasses[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Notifies the given observers. Any exception thrown by an observer is propagated immediately.
+     *
+     * @param eventContext
+     * @param observers the observers that this dispatcher {@link #matches(ObserverMethod[])}
+     */
+    protected abstract void dispatch(EventContext<?> eventContext, ObserverMethod<?>[] observers);
+
+}
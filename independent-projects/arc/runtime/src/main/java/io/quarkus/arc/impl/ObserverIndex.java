@@ -0,0 +1,234 @@
+package io.quarkus.arc.impl;
+
+import static io.quarkus.arc.impl.TypeCachePollutionUtils.asParameterizedType;
+import static io.quarkus.arc.impl.TypeCachePollutionUtils.isParameterizedType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Any;
+
+import io.quarkus.arc.InjectableObserverMethod;
+
+/**
+ * Observer methods indexed by the raw observed type and by the type of an observed qualifier.
+ * <p>
+ * An event type matches an observed type of a class or a parameterized type only if the raw types are identical (see
+ * {@link EventTypeAssignabilityRules}). Therefore, only the buckets of the raw types from the event type closure need to be
+ * inspected. Likewise, an observer with qualifiers can only match if the event qualifiers contain an annotation of the same
+ * type. Observers with any other observed type, e.g. a type variable, are always inspected.
+ * <p>
+ * All observers are sorted by priority when the index is created. Each bucket holds the positions of its observers in
+ * ascending order, so the buckets can be merged without sorting the resolved observers again.
+ */
+final class ObserverIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // Observers sorted by priority; an observer is identified by its position
+    private final InjectableObserverMethod<?>[] observers;
+    private final Map<Class<?>, Bucket> buckets;
+    // Observers that are not indexed by the raw observed type
+    private final Bucket nonIndexed;
+
+    ObserverIndex(List<InjectableObserverMethod<?>> observers) {
+        List<InjectableObserverMethod<?>> sorted = new ArrayList<>(observers);
+        // Observers with smaller priority values are called first; the sort is stable
+        sorted.sort(InjectableObserverMethod::compare);
+        this.observers = sorted.toArray(new InjectableObserverMethod<?>[0]);
+
+        Map<Class<?>, BucketBuilder> builders = new HashMap<>();
+        BucketBuilder nonIndexedBuilder = new BucketBuilder();
+        for (int i = 0; i < this.observers.length; i++) {
+            InjectableObserverMethod<?> observer = this.observers[i];
+            Class<?> rawType = indexKey(observer.getObservedType());
+            BucketBuilder builder = rawType != null ? builders.computeIfAbsent(rawType, k -> new BucketBuilder())
+                    : nonIndexedBuilder;
+            builder.add(i, observer.getObservedQualifiers());
+        }
+        Map<Class<?>, Bucket> buckets = new HashMap<>();
+        for (Map.Entry<Class<?>, BucketBuilder> entry : builders.entrySet()) {
+            buckets.put(entry.getKey(), entry.getValue().build());
+        }
+        this.buckets = Map.copyOf(buckets);
+        this.nonIndexed = nonIndexedBuilder.build();
+    }
+
+    boolean isEmpty() {
+        return observers.length == 0;
+    }
+
+    /**
+     *
+     * @param eventTypes the event type closure
+     * @param eventQualifiers
+     * @param qualifiers
+     * @return the matching observers sorted by priority
+     */
+    <T> List<InjectableObserverMethod<? super T>> resolve(Set<Type> eventTypes, Set<Annotation> eventQualifiers,
+            Qualifiers qualifiers) {
+        List<int[]> candidates = new ArrayList<>();
+        List<Bucket> visited = new ArrayList<>(eventTypes.size());
+        for (Type eventType : eventTypes) {
+            Class<?> rawType = indexKey(eventType);
+            if (rawType == null) {
+                // The index cannot be used, e.g. for a type variable in the type closure
+                return resolveAll(eventTypes, eventQualifiers, qualifiers);
+            }
+            Bucket bucket = buckets.get(rawType);
+            if (bucket != null && !visited.contains(bucket)) {
+                visited.add(bucket);
+                bucket.addCandidates(candidates, eventQualifiers);
+            }
+        }
+        nonIndexed.addCandidates(candidates, eventQualifiers);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<InjectableObserverMethod<? super T>> resolved = new ArrayList<>();
+        if (candidates.size() == 1) {
+            for (int position : candidates.get(0)) {
+                addIfMatches(resolved, observers[position], eventTypes, eventQualifiers, qualifiers);
+            }
+            return resolved;
+        }
+        // Merge the sorted lists of candidates
+        int[] heads = new int[candidates.size()];
+        for (;;) {
+            int next = -1;
+            int nextPosition = Integer.MAX_VALUE;
+            for (int i = 0; i < heads.length; i++) {
+                int[] list = candidates.get(i);
+                if (heads[i] < list.length && list[heads[i]] < nextPosition) {
+                    next = i;
+                    nextPosition = list[heads[i]];
+                }
+            }
+            if (next == -1) {
+                return resolved;
+            }
+            heads[next]++;
+            addIfMatches(resolved, observers[nextPosition], eventTypes, eventQualifiers, qualifiers);
+        }
+    }
+
+    private <T> List<InjectableObserverMethod<? super T>> resolveAll(Set<Type> eventTypes, Set<Annotation> eventQualifiers,
+            Qualifiers qualifiers) {
+        List<InjectableObserverMethod<? super T>> resolved = new ArrayList<>();
+        for (InjectableObserverMethod<?> observer : observers) {
+            addIfMatches(resolved, observer, eventTypes, eventQualifiers, qualifiers);
+        }
+        return resolved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addIfMatches(List<InjectableObserverMethod<? super T>> resolved,
+            InjectableObserverMethod<?> observer, Set<Type> eventTypes, Set<Annotation> eventQualifiers,
+            Qualifiers qualifiers) {
+        if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
+            if (observer.getObservedQualifiers().isEmpty()
+                    || qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
+                resolved.add((InjectableObserverMethod<? super T>) observer);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param type
+     * @return the boxed raw type of a class or a parameterized type, or {@code null}
+     */
+    private static Class<?> indexKey(Type type) {
+        type = Types.boxedType(type);
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (isParameterizedType(type)) {
+            Type rawType = asParameterizedType(type).getRawType();
+            if (rawType instanceof Class) {
+                return (Class<?>) rawType;
+            }
+        }
+        return null;
+    }
+
+    private static final class Bucket {
+
+        // Positions of observers without qualifiers
+        private final int[] unqualified;
+        // Qualifier type -> positions of observers that observe a qualifier of the given type
+        private final Map<Class<? extends Annotation>, int[]> qualified;
+
+        Bucket(int[] unqualified, Map<Class<? extends Annotation>, int[]> qualified) {
+            this.unqualified = unqualified;
+            this.qualified = qualified;
+        }
+
+        void addCandidates(List<int[]> candidates, Set<Annotation> eventQualifiers) {
+            if (unqualified.length > 0) {
+                candidates.add(unqualified);
+            }
+            if (qualified.isEmpty()) {
+                return;
+            }
+            for (Annotation eventQualifier : eventQualifiers) {
+                int[] positions = qualified.get(eventQualifier.annotationType());
+                // Repeatable qualifiers may be present multiple times
+                if (positions != null && !candidates.contains(positions)) {
+                    candidates.add(positions);
+                }
+            }
+        }
+
+    }
+
+    private static final class BucketBuilder {
+
+        private final List<Integer> unqualified = new ArrayList<>();
+        private final Map<Class<? extends Annotation>, List<Integer>> qualified = new HashMap<>();
+
+        void add(int position, Set<Annotation> observedQualifiers) {
+            if (observedQualifiers.isEmpty()) {
+                unqualified.add(position);
+                return;
+            }
+            // An observer is indexed by a single qualifier type; @Any is only used if there is no other qualifier
+            Class<? extends Annotation> key = null;
+            for (Annotation qualifier : observedQualifiers) {
+                key = qualifier.annotationType();
+                if (!key.equals(Any.class)) {
+                    break;
+                }
+            }
+            qualified.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+        }
+
+        Bucket build() {
+            Map<Class<? extends Annotation>, int[]> qualified = new HashMap<>();
+            for (Map.Entry<Class<? extends Annotation>, List<Integer>> entry : this.qualified.entrySet()) {
+                qualified.put(entry.getKey(), toArray(entry.getValue()));
+            }
+            return new Bucket(toArray(unqualified), Map.copyOf(qualified));
+        }
+
+        private static int[] toArray(List<Integer> positions) {
+            if (positions.isEmpty()) {
+                return EMPTY;
+            }
+            int[] array = new int[positions.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = positions.get(i);
+            }
+            return array;
+        }
+
+    }
+
+}
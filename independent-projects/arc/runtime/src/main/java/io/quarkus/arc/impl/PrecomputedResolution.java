@@ -0,0 +1,76 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of a typesafe resolution performed at build time. It's used to preload the resolution caches of the container.
+ * <p>
+ * Either the required type and qualifiers or the bean name is set. The bean identifiers represent the matching beans, i.e.
+ * the ambiguity is not resolved yet.
+ * <p>
+ * This construct is not considered a public API and should only be used by generated classes.
+ */
+public final class PrecomputedResolution {
+
+    private final Type requiredType;
+    private final Set<Annotation> qualifiers;
+    private final String name;
+    private final List<String> beanIds;
+
+    public PrecomputedResolution(Type requiredType, Set<Annotation> qualifiers, List<String> beanIds) {
+        this(requiredType, qualifiers, null, beanIds);
+    }
+
+    public PrecomputedResolution(String name, List<String> beanIds) {
+        this(null, null, name, beanIds);
+    }
+
+    private PrecomputedResolution(Type requiredType, Set<Annotation> qualifiers, String name, List<String> beanIds) {
+        this.requiredType = requiredType;
+        this.qualifiers = qualifiers;
+        this.name = name;
+        this.beanIds = List.copyOf(beanIds);
+    }
+
+    /**
+     *
+     * @return the required type or {@code null} if this is a resolution by name
+     */
+    public Type getRequiredType() {
+        return requiredType;
+    }
+
+    /**
+     *
+     * @return the required qualifiers or {@code null} if this is a resolution by name
+     */
+    public Set<Annotation> getQualifiers() {
+        return qualifiers;
+    }
+
+    /**
+     *
+     * @return the bean name or {@code null} if this is a typesafe resolution
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return the identifiers of matching beans
+     */
+    public List<String> getBeanIds() {
+        return beanIds;
+    }
+
+    @Override
+    public String toString() {
+        return name != null ? "@Named(" + name + ") -> " + beanIds
+                : requiredType + " " + qualifiers + " -> " + beanIds;
+    }
+
+}
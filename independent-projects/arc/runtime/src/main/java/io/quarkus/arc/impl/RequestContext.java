@@ -4,10 +4,13 @@ import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,6 +37,8 @@ class RequestContext implements ManagedContext {
     private static final Logger LOG = Logger.getLogger("io.quarkus.arc.requestContext");
 
     private final CurrentContext<RequestContextState> currentContext;
+    // The number of request scoped beans with a context index assigned
+    private final int slots;
 
     private final Notifier<Object> initializedNotifier;
     private final Notifier<Object> beforeDestroyedNotifier;
@@ -41,7 +46,22 @@ class RequestContext implements ManagedContext {
 
     public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
             Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier) {
+        this(currentContext, initializedNotifier, beforeDestroyedNotifier, destroyedNotifier, 0);
+    }
+
+    /**
+     *
+     * @param currentContext
+     * @param initializedNotifier
+     * @param beforeDestroyedNotifier
+     * @param destroyedNotifier
+     * @param slots the number of request scoped beans that have a context index assigned
+     * @see InjectableBean#getContextIndex()
+     */
+    public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
+            Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier, int slots) {
         this.currentContext = currentContext;
+        this.slots = slots;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
         this.destroyedNotifier = destroyedNotifier;
@@ -66,13 +86,13 @@ class RequestContext implements ManagedContext {
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            ctxState.put(bean, instance);
         }
         return instance.get();
     }
@@ -99,7 +119,7 @@ class RequestContext implements ManagedContext {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -115,7 +135,7 @@ class RequestContext implements ManagedContext {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -133,7 +153,7 @@ class RequestContext implements ManagedContext {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(slots));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -196,12 +216,7 @@ class RequestContext implements ManagedContext {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
-                if (!map.isEmpty()) {
-                    //Performance: avoid an iterator on the map elements
-                    map.forEach(this::destroyContextElement);
-                    map.clear();
-                }
+                reqState.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -210,7 +225,7 @@ class RequestContext implements ManagedContext {
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -237,27 +252,99 @@ class RequestContext implements ManagedContext {
     static class RequestContextState implements ContextState {
 
         private static final VarHandle IS_VALID;
+        private static final VarHandle HANDLES;
+        private static final VarHandle MAP;
+        private static final VarHandle HANDLE = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
 
         static {
             try {
-                IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                IS_VALID = lookup.findVarHandle(RequestContextState.class, "isValid", int.class);
+                HANDLES = lookup.findVarHandle(RequestContextState.class, "handles", ContextInstanceHandle[].class);
+                MAP = lookup.findVarHandle(RequestContextState.class, "map", ConcurrentMap.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        private final int slots;
+        // Instances of beans with a context index; the array is created lazily
+        private volatile ContextInstanceHandle<?>[] handles;
+        // Instances of beans without a context index, e.g. registered at runtime; the map is created lazily
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
         private volatile int isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int slots) {
+            this.slots = slots;
             this.isValid = 1;
         }
 
+        ContextInstanceHandle<?> get(InjectableBean<?> bean) {
+            int index = slotIndex(bean);
+            if (index != -1) {
+                ContextInstanceHandle<?>[] handles = this.handles;
+                return handles != null ? (ContextInstanceHandle<?>) HANDLE.getVolatile(handles, index) : null;
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(bean) : null;
+        }
+
+        void put(InjectableBean<?> bean, ContextInstanceHandle<?> handle) {
+            int index = slotIndex(bean);
+            if (index != -1) {
+                HANDLE.setVolatile(handles(), index, handle);
+            } else {
+                map().put(bean, handle);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = contextual instanceof InjectableBean ? slotIndex((InjectableBean<?>) contextual) : -1;
+            if (index != -1) {
+                ContextInstanceHandle<?>[] handles = this.handles;
+                return handles != null ? (ContextInstanceHandle<?>) HANDLE.getAndSet(handles, index, null) : null;
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void destroyAll(Consumer<ContextInstanceHandle<?>> destroyAction) {
+            ContextInstanceHandle<?>[] handles = this.handles;
+            if (handles != null) {
+                for (int i = 0; i < handles.length; i++) {
+                    ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) HANDLE.getAndSet(handles, i, null);
+                    if (handle != null) {
+                        destroyAction.accept(handle);
+                    }
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null && !map.isEmpty()) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, handle) -> destroyAction.accept(handle));
+                map.clear();
+            }
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            ContextInstanceHandle<?>[] handles = this.handles;
+            if (handles != null) {
+                for (int i = 0; i < handles.length; i++) {
+                    ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) HANDLE.getVolatile(handles, i);
+                    if (handle != null) {
+                        instances.put(handle.getBean(), handle.get());
+                    }
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                for (ContextInstanceHandle<?> handle : map.values()) {
+                    instances.put(handle.getBean(), handle.get());
+                }
+            }
+            return Collections.unmodifiableMap(instances);
         }
 
         /**
@@ -273,6 +360,38 @@ class RequestContext implements ManagedContext {
             return isValid == 1;
         }
 
+        private int slotIndex(InjectableBean<?> bean) {
+            int index = bean.getContextIndex();
+            return index < slots ? index : -1;
+        }
+
+        private ContextInstanceHandle<?>[] handles() {
+            ContextInstanceHandle<?>[] handles = this.handles;
+            if (handles == null) {
+                handles = new ContextInstanceHandle<?>[slots];
+                ContextInstanceHandle<?>[] witness = (ContextInstanceHandle<?>[]) HANDLES.compareAndExchange(this, null,
+                        handles);
+                if (witness != null) {
+                    handles = witness;
+                }
+            }
+            return handles;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map == null) {
+                map = new ConcurrentHashMap<>();
+                @SuppressWarnings("unchecked")
+                ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> witness = (ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>) MAP
+                        .compareAndExchange(this, null, map);
+                if (witness != null) {
+                    map = witness;
+                }
+            }
+            return map;
+        }
+
     }
 
 }
@@ -0,0 +1,83 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Special type of InvocationContext for AroundInvoke interceptors of methods that do not return an asynchronous type.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext}, a single instance is used for the whole interceptor chain; the position in
+ * the chain is mutable. Therefore, it's not possible to continue the chain execution asynchronously, i.e. after the
+ * interceptor that called {@link #proceed()} returned. On the other hand, {@link #proceed()} may be called multiple times by
+ * the same interceptor, e.g. to retry the invocation.
+ * <p>
+ * The context data map is created lazily.
+ *
+ * @see InvocationContexts#performSyncAroundInvoke(Object, Method, Function, Object[], List, Set)
+ */
+class SyncAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The index of the next interceptor to invoke
+    private int position;
+
+    SyncAroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
+            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, method, null, parameters, null, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    SyncAroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata, Object[] parameters,
+            Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, metadata, parameters, null);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    static Object perform(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return new SyncAroundInvokeInvocationContext(target, method, parameters, interceptorBindings, chain,
+                aroundInvokeForward).proceed();
+    }
+
+    static Object perform(Object target, InterceptedMethodMetadata metadata,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters) throws Exception {
+        return new SyncAroundInvokeInvocationContext(target, metadata, parameters, aroundInvokeForward).proceed();
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        try {
+            if (current < chain.size()) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                try {
+                    return chain.get(current).invoke(this);
+                } finally {
+                    position = current;
+                }
+            } else {
+                // Invoke the target method
+                return aroundInvokeForward.apply(this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+}
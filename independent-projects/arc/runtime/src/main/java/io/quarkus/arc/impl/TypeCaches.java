@@ -0,0 +1,140 @@
+package io.quarkus.arc.impl;
+
+import static io.quarkus.arc.impl.TypeCachePollutionUtils.asParameterizedType;
+import static io.quarkus.arc.impl.TypeCachePollutionUtils.isParameterizedType;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caches of type closures and event type assignability results.
+ * <p>
+ * Like the caches in {@link Reflections}, the caches are shared by all containers and cleared when the container is shut
+ * down. They are bounded because events of many different runtime types may be fired, e.g. lambdas.
+ * <p>
+ * Parameterized types are canonicalized, i.e. equal parameterized types share a single {@link ParameterizedTypeImpl}
+ * instance.
+ */
+final class TypeCaches {
+
+    private static final int CANONICAL_TYPES_MAX_SIZE = 1024;
+    private static final int HIERARCHIES_MAX_SIZE = 1024;
+    private static final int ASSIGNABILITY_MAX_SIZE = 4096;
+
+    private static final ComputingCache<Type, Type> CANONICAL_TYPES = new ComputingCache<>(
+            new Function<Type, Type>() {
+                @Override
+                public Type apply(Type type) {
+                    return createCanonicalType(asParameterizedType(type));
+                }
+            }, CANONICAL_TYPES_MAX_SIZE);
+    private static final ComputingCache<Type, HierarchyDiscovery> HIERARCHIES = new ComputingCache<>(
+            new Function<Type, HierarchyDiscovery>() {
+                @Override
+                public HierarchyDiscovery apply(Type type) {
+                    return new HierarchyDiscovery(type);
+                }
+            }, HIERARCHIES_MAX_SIZE);
+    private static final ComputingCache<TypePair, Boolean> EVENT_TYPE_ASSIGNABILITY = new ComputingCache<>(
+            new Function<TypePair, Boolean>() {
+                @Override
+                public Boolean apply(TypePair pair) {
+                    return EventTypeAssignabilityRules.instance().matchesNoBoxing(Types.boxedType(pair.type1),
+                            Types.boxedType(pair.type2));
+                }
+            }, ASSIGNABILITY_MAX_SIZE);
+
+    static void clearCaches() {
+        CANONICAL_TYPES.clear();
+        HIERARCHIES.clear();
+        EVENT_TYPE_ASSIGNABILITY.clear();
+    }
+
+    private TypeCaches() {
+    }
+
+    /**
+     *
+     * @param type
+     * @return the canonical instance of a parameterized type, or the given type
+     */
+    static Type canonicalize(Type type) {
+        if (isParameterizedType(type)) {
+            return CANONICAL_TYPES.getValue(type);
+        }
+        return type;
+    }
+
+    /**
+     * The returned instance must not be modified.
+     *
+     * @param type
+     * @return the hierarchy of the given type
+     */
+    static HierarchyDiscovery getHierarchy(Type type) {
+        return HIERARCHIES.getValue(canonicalize(type));
+    }
+
+    /**
+     *
+     * @param type
+     * @return the type closure of the given type
+     */
+    static Set<Type> getTypeClosure(Type type) {
+        return getHierarchy(type).getTypeClosure();
+    }
+
+    /**
+     *
+     * @param observedType
+     * @param eventType
+     * @return {@code true} if the event type is assignable to the observed type
+     * @see EventTypeAssignabilityRules#matches(Type, Type)
+     */
+    static boolean isEventTypeAssignable(Type observedType, Type eventType) {
+        return EVENT_TYPE_ASSIGNABILITY.getValue(new TypePair(canonicalize(observedType), canonicalize(eventType)));
+    }
+
+    private static Type createCanonicalType(ParameterizedType type) {
+        Type[] arguments = type.getActualTypeArguments();
+        Type[] canonicalArguments = new Type[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            canonicalArguments[i] = canonicalize(arguments[i]);
+        }
+        return new ParameterizedTypeImpl(type.getRawType(), canonicalArguments, type.getOwnerType());
+    }
+
+    private static final class TypePair {
+
+        private final Type type1;
+        private final Type type2;
+        private final int hashCode;
+
+        TypePair(Type type1, Type type2) {
+            this.type1 = type1;
+            this.type2 = type2;
+            this.hashCode = 31 * type1.hashCode() + type2.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypePair)) {
+                return false;
+            }
+            TypePair other = (TypePair) obj;
+            return hashCode == other.hashCode && type1.equals(other.type1) && type2.equals(other.type2);
+        }
+
+    }
+
+}
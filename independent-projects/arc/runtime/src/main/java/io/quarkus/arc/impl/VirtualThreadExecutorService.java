@@ -0,0 +1,154 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.ExecutorStatistics;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * The built-in executor service used if {@link ArcInitConfig#isVirtualThreadExecutor()} is enabled.
+ * <p>
+ * Each task is executed in a new virtual thread. If virtual threads are not supported by the current JVM then this executor
+ * is not used at all, see {@link #create(ManagedContext)}.
+ * <p>
+ * The state of the request context that is active when a task is submitted is propagated to the thread that executes the
+ * task, unless the request context is already active in that thread or the state is no longer valid when the task is
+ * executed. Note that the propagated context is only deactivated and not destroyed after the task is executed.
+ */
+final class VirtualThreadExecutorService extends AbstractExecutorService implements ExecutorStatistics {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreadExecutorService.class);
+
+    private final ExecutorService delegate;
+    private final ManagedContext requestContext;
+    // Tasks submitted but not started yet
+    private final AtomicInteger queued;
+    // Tasks being executed
+    private final AtomicInteger inFlight;
+
+    /**
+     *
+     * @param requestContext
+     * @return a new executor, or {@code null} if virtual threads are not supported by the current JVM
+     */
+    static VirtualThreadExecutorService create(ManagedContext requestContext) {
+        ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualThreadExecutor == null) {
+            LOGGER.warn("Virtual threads are not supported by the current JVM - the built-in virtual thread executor is "
+                    + "not used and the default executor is used instead");
+            return null;
+        }
+        return new VirtualThreadExecutorService(requestContext, virtualThreadExecutor);
+    }
+
+    VirtualThreadExecutorService(ManagedContext requestContext, ExecutorService delegate) {
+        this.requestContext = requestContext;
+        this.delegate = delegate;
+        this.queued = new AtomicInteger();
+        this.inFlight = new AtomicInteger();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ContextState state = requestContext.getStateIfActive();
+        queued.incrementAndGet();
+        try {
+            delegate.execute(new Task(command, state));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() is only available in Java 21+
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to create a virtual thread executor");
+            return null;
+        }
+    }
+
+    private final class Task implements Runnable {
+
+        private final Runnable command;
+        private final ContextState state;
+
+        Task(Runnable command, ContextState state) {
+            this.command = command;
+            this.state = state;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            try {
+                if (state != null && state.isValid() && !requestContext.isActive()) {
+                    requestContext.activate(state);
+                    try {
+                        command.run();
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                } else {
+                    command.run();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.arc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Locale;
+
+import jakarta.enterprise.event.NotificationOptions;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
+
+public class ArcNotificationOptionsTest {
+
+    @Test
+    public void testNotificationMode() {
+        assertEquals(NotificationMode.SERIAL, NotificationMode.from(NotificationOptions.builder().build()));
+        assertEquals(NotificationMode.PARALLEL, mode(NotificationMode.PARALLEL));
+        assertEquals(NotificationMode.PARALLEL, mode("parallel"));
+        assertThrows(IllegalArgumentException.class, () -> mode("foo"));
+
+        Locale defaultLocale = Locale.getDefault();
+        // "serial".toUpperCase() returns "SERİAL" in the Turkish locale
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertEquals(NotificationMode.SERIAL, mode("serial"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static NotificationMode mode(Object value) {
+        return NotificationMode.from(NotificationOptions.builder().set(ArcNotificationOptions.MODE, value).build());
+    }
+
+}
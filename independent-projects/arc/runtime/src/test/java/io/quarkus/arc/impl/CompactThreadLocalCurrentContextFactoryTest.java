@@ -0,0 +1,66 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+public class CompactThreadLocalCurrentContextFactoryTest {
+
+    @Test
+    public void testMultipleScopes() {
+        CompactThreadLocalCurrentContextFactory factory = new CompactThreadLocalCurrentContextFactory();
+        CurrentContext<ContextState> request = factory.create(RequestScoped.class);
+        ContextState requestState = () -> null;
+        request.set(requestState);
+        // Registered after the carrier was created
+        CurrentContext<ContextState> session = factory.create(SessionScoped.class);
+        assertNull(session.get());
+        ContextState sessionState = () -> null;
+        session.set(sessionState);
+        assertSame(requestState, request.get());
+        assertSame(sessionState, session.get());
+
+        request.remove();
+        assertNull(request.get());
+        assertSame(sessionState, session.get());
+        assertNotNull(factory.carrier.get());
+        session.set(null);
+        assertNull(session.get());
+        // The thread-local entry is removed together with the last state
+        assertNull(factory.carrier.get());
+        request.remove();
+        assertNull(request.get());
+    }
+
+    @Test
+    public void testSingleEntryPerThread() {
+        CompactThreadLocalCurrentContextFactory factory = new CompactThreadLocalCurrentContextFactory();
+        List<CurrentContext<ContextState>> contexts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            contexts.add(factory.create(RequestScoped.class));
+        }
+        ContextState state = () -> null;
+        contexts.forEach(c -> c.set(state));
+        // All states share a single carrier
+        Object[] states = factory.carrier.get();
+        assertEquals(4, states.length);
+        contexts.forEach(c -> c.set(state));
+        assertSame(states, factory.carrier.get());
+
+        contexts.forEach(CurrentContext::remove);
+        assertNull(factory.carrier.get());
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ComputingCacheTest {
+
+    @Test
+    public void testUnbounded() {
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString);
+        assertFalse(cache.isBounded());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), cache.getValue(i));
+        }
+        assertEquals(100, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testBoundedEviction() {
+        ComputingCache<Integer, String> cache = new ComputingCache<>(Object::toString, 10);
+        assertTrue(cache.isBounded());
+        // Make the first entry popular
+        for (int i = 0; i < 5; i++) {
+            assertEquals("0", cache.getValue(0));
+        }
+        for (int i = 1; i < 100; i++) {
+            assertEquals(String.valueOf(i), cache.getValue(i));
+            if (i % 5 == 0) {
+                // The popular entry is still used
+                cache.getValue(0);
+            }
+        }
+        assertTrue(cache.size() <= 10);
+        assertEquals(23, cache.getHits());
+        assertEquals(100, cache.getMisses());
+        assertEquals(100 - cache.size(), cache.getEvictions());
+        // The least frequently used entries were evicted first
+        assertNotNull(cache.getValueIfPresent(0));
+        assertNull(cache.getValueIfPresent(1));
+    }
+
+    @Test
+    public void testPinnedEntriesNotEvicted() {
+        Function<Integer, String> computingFunction = Object::toString;
+        ComputingCache<Integer, String> cache = new ComputingCache<>(computingFunction, 5);
+        for (int i = 0; i < 20; i++) {
+            assertNull(cache.putIfAbsent(-i - 1, "pinned"));
+        }
+        assertEquals("pinned", cache.putIfAbsent(-1, "foo"));
+        for (int i = 0; i < 50; i++) {
+            cache.getValue(i);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals("pinned", cache.getValueIfPresent(-i - 1));
+        }
+        // Pinned entries do not count towards the max size
+        assertTrue(cache.size() <= 25);
+        assertTrue(cache.size() > 20);
+        cache.clear();
+        assertTrue(cache.isEmpty());
+        cache.getValue(1);
+        assertEquals(1, cache.size());
+    }
+
+}
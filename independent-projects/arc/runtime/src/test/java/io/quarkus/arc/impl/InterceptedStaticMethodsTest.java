@@ -0,0 +1,62 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.impl.InterceptedStaticMethods.Holder;
+import io.quarkus.arc.impl.InterceptedStaticMethods.InterceptedStaticMethod;
+
+public class InterceptedStaticMethodsTest {
+
+    @AfterEach
+    void clear() {
+        InterceptedStaticMethods.clear();
+    }
+
+    @Test
+    public void testHolderObtainedBeforeRegistration() throws Exception {
+        Holder holder = InterceptedStaticMethods.holder("alpha");
+        assertSame(holder, InterceptedStaticMethods.holder("alpha"));
+        assertThrows(IllegalArgumentException.class, () -> InterceptedStaticMethods.aroundInvoke(holder, new Object[0]));
+
+        InterceptedStaticMethod method = newMethod();
+        InterceptedStaticMethods.register("alpha", method);
+        assertSame(method, holder.method);
+        // The first registration wins
+        InterceptedStaticMethods.register("alpha", newMethod());
+        assertSame(method, holder.method);
+    }
+
+    @Test
+    public void testHolderSurvivesRestart() throws Exception {
+        InterceptedStaticMethods.register("bravo", newMethod());
+        Holder holder = InterceptedStaticMethods.holder("bravo");
+
+        InterceptedStaticMethods.clear();
+        assertNull(holder.method);
+        assertThrows(IllegalArgumentException.class, () -> InterceptedStaticMethods.aroundInvoke("bravo", new Object[0]));
+
+        InterceptedStaticMethod method = newMethod();
+        InterceptedStaticMethods.register("bravo", method);
+        assertSame(holder, InterceptedStaticMethods.holder("bravo"));
+        assertSame(method, holder.method);
+    }
+
+    @Test
+    public void testUnknownKey() {
+        assertThrows(IllegalArgumentException.class, () -> InterceptedStaticMethods.aroundInvoke("charlie", new Object[0]));
+    }
+
+    private static InterceptedStaticMethod newMethod() throws NoSuchMethodException {
+        return new InterceptedStaticMethod(ctx -> null, new InterceptedMethodMetadata(List.of(),
+                InterceptedStaticMethodsTest.class.getDeclaredMethod("newMethod"), Set.of()));
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TypeCachesTest {
+
+    @AfterEach
+    public void clear() {
+        TypeCaches.clearCaches();
+    }
+
+    @Test
+    public void testCanonicalize() {
+        Type jdkType = new TypeLiteral<Changed<List<String>>>() {
+        }.getType();
+        Type arcType = new ParameterizedTypeImpl(Changed.class,
+                new Type[] { new ParameterizedTypeImpl(List.class, String.class) }, TypeCachesTest.class);
+        assertEquals(jdkType, arcType);
+        assertNotSame(jdkType, arcType);
+        Type canonical = TypeCaches.canonicalize(jdkType);
+        assertTrue(canonical instanceof ParameterizedTypeImpl);
+        assertEquals(jdkType, canonical);
+        assertSame(canonical, TypeCaches.canonicalize(arcType));
+        assertSame(String.class, TypeCaches.canonicalize(String.class));
+
+        TypeCaches.clearCaches();
+        assertNotSame(canonical, TypeCaches.canonicalize(arcType));
+    }
+
+    @Test
+    public void testTypeClosure() {
+        Type orderChanged = new ParameterizedTypeImpl(Changed.class, new Type[] { Order.class }, TypeCachesTest.class);
+        Set<Type> closure = TypeCaches.getTypeClosure(orderChanged);
+        assertEquals(Set.of(orderChanged, Object.class), closure);
+        assertSame(closure, TypeCaches.getTypeClosure(new TypeLiteral<Changed<Order>>() {
+        }.getType()));
+        assertThrows(UnsupportedOperationException.class, () -> closure.add(String.class));
+    }
+
+    @Test
+    public void testEventTypeAssignability() {
+        Type orderChanged = new TypeLiteral<Changed<Order>>() {
+        }.getType();
+        Type customerChanged = new TypeLiteral<Changed<Customer>>() {
+        }.getType();
+        Type wildcardChanged = new TypeLiteral<Changed<?>>() {
+        }.getType();
+        EventTypeAssignabilityRules rules = EventTypeAssignabilityRules.instance();
+        for (int i = 0; i < 2; i++) {
+            assertTrue(rules.matches(orderChanged, orderChanged));
+            assertFalse(rules.matches(orderChanged, customerChanged));
+            assertTrue(rules.matches(wildcardChanged, customerChanged));
+            assertTrue(rules.matches(Changed.class, customerChanged));
+            assertTrue(rules.matches(int.class, Integer.class));
+        }
+    }
+
+    static class Changed<T> {
+    }
+
+    static class Order {
+    }
+
+    static class Customer {
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadExecutorServiceTest {
+
+    @Test
+    public void testCounters() throws InterruptedException, ExecutionException, TimeoutException {
+        // Platform threads are used so that the test does not depend on the JVM version
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        VirtualThreadExecutorService executor = new VirtualThreadExecutorService(
+                new RequestContext(new ThreadLocalCurrentContext<>(), null, null, null), delegate);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> first = executor.submit(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // The second task waits for the single thread
+            Future<?> second = executor.submit(() -> {
+            });
+            assertEquals(1, executor.getInFlight());
+            assertEquals(1, executor.getQueueDepth());
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            // The counter is decremented after the future is completed
+            CompletableFuture.runAsync(() -> {
+                while (executor.getInFlight() > 0) {
+                    Thread.onSpinWait();
+                }
+            }).get(10, TimeUnit.SECONDS);
+            assertEquals(0, executor.getInFlight());
+            assertEquals(0, executor.getQueueDepth());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
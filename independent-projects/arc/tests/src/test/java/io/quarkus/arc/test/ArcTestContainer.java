@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInitConfig;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.processor.AlternativePriorities;
@@ -91,9 +92,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private final List<BeanDeploymentValidator> beanDeploymentValidators;
         private boolean shouldFail = false;
         private boolean removeUnusedBeans = false;
+        private boolean skipObserverRequestContextActivation = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
         private final List<Class<? extends BuildCompatibleExtension>> buildCompatibleExtensions;
+        private ArcInitConfig initConfig = ArcInitConfig.DEFAULT;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -190,6 +193,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder skipObserverRequestContextActivation(boolean value) {
+            this.skipObserverRequestContextActivation = value;
+            return this;
+        }
+
         public Builder addRemovalExclusion(Predicate<BeanInfo> exclusion) {
             this.exclusions.add(exclusion);
             return this;
@@ -211,6 +219,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder initConfig(ArcInitConfig initConfig) {
+            this.initConfig = initConfig;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -239,12 +252,15 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
     private final AtomicReference<Throwable> buildFailure;
 
     private final boolean removeUnusedBeans;
+    private final boolean skipObserverRequestContextActivation;
     private final List<Predicate<BeanInfo>> exclusions;
 
     private final AlternativePriorities alternativePriorities;
 
     private final List<Class<? extends BuildCompatibleExtension>> buildCompatibleExtensions;
 
+    private final ArcInitConfig initConfig;
+
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
         this.beanClasses = Arrays.asList(beanClasses);
@@ -263,9 +279,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = false;
         this.removeUnusedBeans = false;
+        this.skipObserverRequestContextActivation = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
         this.buildCompatibleExtensions = Collections.emptyList();
+        this.initConfig = ArcInitConfig.DEFAULT;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -286,9 +304,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = builder.shouldFail;
         this.removeUnusedBeans = builder.removeUnusedBeans;
+        this.skipObserverRequestContextActivation = builder.skipObserverRequestContextActivation;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
+        this.initConfig = builder.initConfig;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -477,6 +497,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 }
             });
             builder.setRemoveUnusedBeans(removeUnusedBeans);
+            builder.setSkipObserverRequestContextActivation(skipObserverRequestContextActivation);
             for (Predicate<BeanInfo> exclusion : exclusions) {
                 builder.addRemovalExclusion(exclusion);
             }
@@ -512,7 +533,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             getRootExtensionStore(context).put(KEY_TEST_CLASSLOADER, testClassLoader);
 
             // Now we are ready to initialize Arc
-            Arc.initialize();
+            Arc.initialize(initConfig);
 
         } catch (Throwable e) {
             if (shouldFail) {
@@ -0,0 +1,90 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ApplicationScopedDelegateTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class, Client.class);
+
+    @Test
+    public void testDelegateIsInvalidated() {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+        Client client = Arc.container().instance(Client.class).get();
+        Counter counter = client.counter;
+        assertEquals(1, counter.increment());
+        assertEquals(2, counter.increment());
+        Object delegate = ((ClientProxy) counter).arc_contextualInstance();
+        assertSame(delegate, ((ClientProxy) counter).arc_contextualInstance());
+        assertEquals(1, Counter.CREATED.get());
+
+        // Destroy the contextual instance
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        appContext.destroy(((ClientProxy) counter).arc_bean());
+        assertEquals(1, Counter.DESTROYED.get());
+        assertEquals(1, counter.increment());
+        assertEquals(2, Counter.CREATED.get());
+        assertNotEquals(delegate, ((ClientProxy) counter).arc_contextualInstance());
+
+        // Destroy via instance handle
+        InstanceHandle<Counter> handle = Arc.container().instance(Counter.class);
+        assertEquals(2, handle.get().increment());
+        handle.destroy();
+        assertEquals(2, Counter.DESTROYED.get());
+        assertEquals(1, counter.increment());
+        assertEquals(3, Counter.CREATED.get());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final AtomicInteger value = new AtomicInteger();
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        int increment() {
+            return value.incrementAndGet();
+        }
+
+    }
+
+    @Dependent
+    static class Client {
+
+        @Inject
+        Counter counter;
+
+    }
+
+}
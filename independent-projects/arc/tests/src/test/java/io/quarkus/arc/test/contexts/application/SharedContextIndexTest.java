@@ -0,0 +1,176 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class SharedContextIndexTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class, Slow.class);
+
+    @Test
+    public void testContextIndexes() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+        InjectableBean<Bravo> bravoBean = arc.instance(Bravo.class).getBean();
+        InjectableBean<Charlie> charlieBean = arc.instance(Charlie.class).getBean();
+        assertTrue(alphaBean.getContextIndex() >= 0);
+        assertNotEquals(alphaBean.getContextIndex(), bravoBean.getContextIndex());
+        assertTrue(charlieBean.getContextIndex() >= 0);
+    }
+
+    @Test
+    public void testBeansWithAndWithoutIndex() {
+        ArcContainer arc = Arc.container();
+        InjectableContext appContext = arc.getActiveContext(ApplicationScoped.class);
+        InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+        RuntimeBean runtimeBean = new RuntimeBean();
+
+        assertNull(appContext.get(alphaBean));
+        Alpha alpha = appContext.get(alphaBean, new CreationalContextImpl<>(alphaBean));
+        assertSame(alpha, appContext.get(alphaBean));
+        arc.instance(Bravo.class).get().ping();
+        String runtimeValue = appContext.get(runtimeBean, new CreationalContextImpl<>(runtimeBean));
+        assertSame(runtimeValue, appContext.get(runtimeBean));
+
+        Map<InjectableBean<?>, Object> instances = appContext.getState().getContextualInstances();
+        assertEquals(3, instances.size());
+        assertSame(alpha, instances.get(alphaBean));
+        assertSame(runtimeValue, instances.get(runtimeBean));
+
+        appContext.destroy(alphaBean);
+        assertNull(appContext.get(alphaBean));
+        appContext.destroy(runtimeBean);
+        assertNull(appContext.get(runtimeBean));
+        assertEquals(1, appContext.getState().getContextualInstances().size());
+
+        assertNotNull(arc.instance(Charlie.class).get());
+        assertEquals(1, arc.getActiveContext(Singleton.class).getState().getContextualInstances().size());
+    }
+
+    @Test
+    public void testDestroyWhileCreating() throws InterruptedException {
+        ArcContainer arc = Arc.container();
+        InjectableContext appContext = arc.getActiveContext(ApplicationScoped.class);
+        InjectableBean<Slow> slowBean = arc.instance(Slow.class).getBean();
+        Slow.DESTROYED.set(0);
+
+        AtomicReference<Slow> created = new AtomicReference<>();
+        Thread creator = new Thread(() -> created.set(appContext.get(slowBean, new CreationalContextImpl<>(slowBean))));
+        creator.start();
+        assertTrue(Slow.STARTED.await(10, TimeUnit.SECONDS));
+        Thread destroyer = new Thread(() -> appContext.destroy(slowBean));
+        destroyer.start();
+        // The destroyer waits for the instance being created
+        destroyer.join(100);
+        assertTrue(destroyer.isAlive());
+        Slow.RELEASE.countDown();
+        creator.join(10_000);
+        destroyer.join(10_000);
+        assertNotNull(created.get());
+        assertEquals(1, Slow.DESTROYED.get());
+        assertNull(appContext.get(slowBean));
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+    }
+
+    @ApplicationScoped
+    static class Bravo {
+
+        void ping() {
+        }
+
+    }
+
+    @Singleton
+    static class Charlie {
+
+    }
+
+    @ApplicationScoped
+    static class Slow {
+
+        static final CountDownLatch STARTED = new CountDownLatch(1);
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            STARTED.countDown();
+            RELEASE.await(10, TimeUnit.SECONDS);
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    static class RuntimeBean implements InjectableBean<String> {
+
+        @Override
+        public String getIdentifier() {
+            return "runtime_bean";
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(String.class, Object.class);
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return ApplicationScoped.class;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return RuntimeBean.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return new String("foo");
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
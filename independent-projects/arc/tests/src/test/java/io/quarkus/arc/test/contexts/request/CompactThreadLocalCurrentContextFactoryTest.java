@@ -0,0 +1,113 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CompactThreadLocalCurrentContextFactory;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class CompactThreadLocalCurrentContextFactoryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Ping.class)
+            .initConfig(ArcInitConfig.builder().setCurrentContextFactory(new CompactThreadLocalCurrentContextFactory()).build())
+            .build();
+
+    @Test
+    public void testActivation() throws InterruptedException {
+        ArcContainer arc = Arc.container();
+        assertTrue(arc.getCurrentContextFactory() instanceof CompactThreadLocalCurrentContextFactory);
+        ManagedContext requestContext = arc.requestContext();
+        assertFalse(requestContext.isActive());
+
+        requestContext.activate();
+        try {
+            String id = arc.instance(Ping.class).get().getId();
+            assertEquals(id, arc.instance(Ping.class).get().getId());
+            // The state is not visible in other threads
+            AtomicReference<Boolean> active = new AtomicReference<>();
+            Thread thread = new Thread(() -> active.set(requestContext.isActive()));
+            thread.start();
+            thread.join();
+            assertFalse(active.get());
+        } finally {
+            requestContext.terminate();
+        }
+        assertFalse(requestContext.isActive());
+    }
+
+    @Test
+    public void testRunWithRequestContext() {
+        Ping.DESTROYED.set(0);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        // New state is created and destroyed
+        AtomicReference<String> id = new AtomicReference<>();
+        arc.runWithRequestContext(null, () -> id.set(arc.instance(Ping.class).get().getId()));
+        assertFalse(requestContext.isActive());
+        assertEquals(1, Ping.DESTROYED.get());
+
+        requestContext.activate();
+        try {
+            String outerId = arc.instance(Ping.class).get().getId();
+            assertNotEquals(id.get(), outerId);
+            ContextState outer = requestContext.getState();
+
+            // Bind a different state and restore the previous one afterwards
+            requestContext.deactivate();
+            requestContext.activate();
+            ContextState other = requestContext.getState();
+            String otherId = arc.instance(Ping.class).get().getId();
+            requestContext.activate(outer);
+
+            arc.runWithRequestContext(other, () -> assertEquals(otherId, arc.instance(Ping.class).get().getId()));
+            assertSame(outer, requestContext.getState());
+            assertEquals(outerId, arc.instance(Ping.class).get().getId());
+            // The bound state is not destroyed
+            assertEquals(1, Ping.DESTROYED.get());
+            requestContext.destroy(other);
+        } finally {
+            requestContext.terminate();
+        }
+        assertEquals(3, Ping.DESTROYED.get());
+    }
+
+    @RequestScoped
+    static class Ping {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
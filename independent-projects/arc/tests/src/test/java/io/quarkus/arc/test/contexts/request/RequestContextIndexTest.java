@@ -0,0 +1,146 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class);
+
+    @Test
+    public void testContextIndexes() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+        InjectableBean<Bravo> bravoBean = arc.instance(Bravo.class).getBean();
+        assertTrue(alphaBean.getContextIndex() >= 0);
+        assertTrue(bravoBean.getContextIndex() >= 0);
+        assertNotEquals(alphaBean.getContextIndex(), bravoBean.getContextIndex());
+    }
+
+    @Test
+    public void testBeansWithAndWithoutIndex() {
+        DESTROYED.set(0);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        RuntimeBean runtimeBean = new RuntimeBean();
+
+        requestContext.activate();
+        try {
+            Alpha alpha = arc.instance(Alpha.class).get();
+            String alphaId = alpha.getId();
+            assertEquals(alphaId, arc.instance(Alpha.class).get().getId());
+            arc.instance(Bravo.class).get().ping();
+            // The runtime bean has no index assigned
+            String runtimeValue = requestContext.get(runtimeBean, new CreationalContextImpl<>(runtimeBean));
+            assertSame(runtimeValue, requestContext.get(runtimeBean));
+
+            Map<InjectableBean<?>, Object> instances = requestContext.getState().getContextualInstances();
+            assertEquals(3, instances.size());
+            assertSame(runtimeValue, instances.get(runtimeBean));
+
+            // Destroy a single instance
+            requestContext.destroy(arc.instance(Alpha.class).getBean());
+            assertEquals(1, DESTROYED.get());
+            assertNotEquals(alphaId, arc.instance(Alpha.class).get().getId());
+            requestContext.destroy(runtimeBean);
+            assertNull(requestContext.get(runtimeBean));
+        } finally {
+            requestContext.terminate();
+        }
+        // Alpha and Bravo
+        assertEquals(3, DESTROYED.get());
+    }
+
+    static final AtomicInteger DESTROYED = new AtomicInteger();
+
+    @RequestScoped
+    static class Alpha {
+
+        private String id;
+
+        String getId() {
+            if (id == null) {
+                id = String.valueOf(System.nanoTime());
+            }
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @RequestScoped
+    static class Bravo {
+
+        void ping() {
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    static class RuntimeBean implements InjectableBean<String> {
+
+        @Override
+        public String getIdentifier() {
+            return "runtime_bean";
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(String.class, Object.class);
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return RuntimeBean.class;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return new String("foo");
+        }
+
+        @Override
+        public String get(CreationalContext<String> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
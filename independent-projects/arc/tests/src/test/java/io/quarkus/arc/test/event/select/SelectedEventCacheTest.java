@@ -0,0 +1,85 @@
+package io.quarkus.arc.test.event.select;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class SelectedEventCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(BreakInEvent.class, SecurityEvent.class, SecuritySensor.class,
+            SystemTest.class, SecurityObserver.class);
+
+    @Test
+    public void testChildEventsShared() {
+        SecuritySensor sensor1 = Arc.container().select(SecuritySensor.class).get();
+        SecuritySensor sensor2 = Arc.container().select(SecuritySensor.class).get();
+        assertNotSame(sensor1.securityEvent, sensor2.securityEvent);
+
+        Event<SecurityEvent> alpha = sensor1.securityEvent.select(new SystemTest.SystemTestLiteral("alpha"));
+        // Child events are shared for the same injection point
+        assertSame(alpha, sensor2.securityEvent.select(new SystemTest.SystemTestLiteral("alpha")));
+        assertSame(alpha, sensor1.securityEvent.select(new SystemTest.SystemTestLiteral("alpha")));
+        assertNotSame(alpha, sensor1.securityEvent.select(new SystemTest.SystemTestLiteral("bravo")));
+        assertNotSame(alpha, sensor1.securityEvent.select(BreakInEvent.class, new SystemTest.SystemTestLiteral("alpha")));
+        assertSame(sensor1.securityEvent.select(BreakInEvent.class), sensor2.securityEvent.select(BreakInEvent.class));
+        assertSame(sensor1.securityEvent.select(new TypeLiteral<BreakInEvent>() {
+        }), sensor2.securityEvent.select(BreakInEvent.class));
+        // Nested selection
+        assertSame(alpha.select(BreakInEvent.class), sensor2.securityEvent
+                .select(new SystemTest.SystemTestLiteral("alpha")).select(BreakInEvent.class));
+        assertNotSame(alpha.select(BreakInEvent.class), sensor1.securityEvent.select(BreakInEvent.class));
+    }
+
+    @Test
+    public void testNotification() {
+        SecurityObserver.EVENTS.clear();
+        SecuritySensor sensor = Arc.container().select(SecuritySensor.class).get();
+        // Select more child events than the cache can hold
+        for (int i = 0; i < 100; i++) {
+            sensor.securityEvent.select(new SystemTest.SystemTestLiteral("" + i)).fire(new SecurityEvent());
+        }
+        sensor.securityEvent.select(new SystemTest.SystemTestLiteral("alpha")).fire(new SecurityEvent());
+        sensor.securityEvent.select(new SystemTest.SystemTestLiteral("alpha")).fire(new BreakInEvent());
+        sensor.securityEvent.select(BreakInEvent.class, new SystemTest.SystemTestLiteral("alpha")).fire(new BreakInEvent());
+        assertEquals(List.of("alpha", "alpha", "alpha"), SecurityObserver.EVENTS);
+    }
+
+    @Test
+    public void testInvalidQualifiers() {
+        SecuritySensor sensor = Arc.container().select(SecuritySensor.class).get();
+        // Qualifiers are verified every time
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> sensor.securityEvent.select(new SystemTest.SystemTestLiteral("a"),
+                            new SystemTest.SystemTestLiteral("b")));
+        }
+    }
+
+    @Dependent
+    static class SecurityObserver {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void onAlpha(@Observes @SystemTest("alpha") SecurityEvent event) {
+            EVENTS.add("alpha");
+        }
+
+    }
+
+}
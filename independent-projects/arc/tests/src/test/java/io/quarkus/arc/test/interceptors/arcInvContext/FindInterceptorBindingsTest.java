@@ -0,0 +1,160 @@
+package io.quarkus.arc.test.interceptors.arcInvContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FindInterceptorBindingsTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Tag.class, Tag.List.class, SomeBinding.class,
+            TagInterceptor.class, Tagged.class, TaggedClass.class, DependentTagged.class);
+
+    @Test
+    public void testFindBindings() {
+        Tagged tagged = Arc.container().instance(Tagged.class).get();
+        assertEquals("[alpha, bravo]:true:null", tagged.twoTags());
+        assertEquals("[charlie]:false:null", tagged.oneTag());
+    }
+
+    @Test
+    public void testBindingsSharedByInstances() {
+        DependentTagged first = Arc.container().instance(DependentTagged.class).get();
+        DependentTagged second = Arc.container().instance(DependentTagged.class).get();
+        assertNotSame(first, second);
+        assertEquals("[echo, foxtrot]:false:null", first.tags());
+        List<Tag> firstTags = TagInterceptor.last;
+        assertEquals("[echo, foxtrot]:false:null", second.tags());
+        // The index of bindings is built once per intercepted method and not per instance
+        assertSame(firstTags, TagInterceptor.last);
+    }
+
+    @Test
+    public void testFindBindingsLifecycleCallback() {
+        TagInterceptor.POST_CONSTRUCT.clear();
+        Arc.container().instance(TaggedClass.class).get().ping();
+        assertEquals(List.of("delta"), TagInterceptor.POST_CONSTRUCT);
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(Tag.List.class)
+    @InterceptorBinding
+    @interface Tag {
+
+        @Nonbinding
+        String value();
+
+        @Target({ ElementType.TYPE, ElementType.METHOD })
+        @Retention(RetentionPolicy.RUNTIME)
+        @interface List {
+            Tag[] value();
+        }
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Unused {
+    }
+
+    @ApplicationScoped
+    static class Tagged {
+
+        @SomeBinding
+        @Tag("alpha")
+        @Tag("bravo")
+        String twoTags() {
+            return null;
+        }
+
+        @Tag("charlie")
+        String oneTag() {
+            return null;
+        }
+
+    }
+
+    @Tag("delta")
+    @ApplicationScoped
+    static class TaggedClass {
+
+        void ping() {
+        }
+
+    }
+
+    @Dependent
+    static class DependentTagged {
+
+        @Tag("echo")
+        @Tag("foxtrot")
+        String tags() {
+            return null;
+        }
+
+    }
+
+    @Priority(1)
+    @Interceptor
+    @Tag("")
+    static class TagInterceptor {
+
+        static volatile List<Tag> last;
+
+        static final List<String> POST_CONSTRUCT = new CopyOnWriteArrayList<>();
+
+        @PostConstruct
+        void postConstruct(ArcInvocationContext ctx) throws Exception {
+            List<Tag> tags = ctx.findIterceptorBindings(Tag.class);
+            assertThrows(UnsupportedOperationException.class, () -> tags.add(null));
+            assertTrue(ctx.findIterceptorBindings(SomeBinding.class).isEmpty());
+            tags.forEach(t -> POST_CONSTRUCT.add(t.value()));
+            ctx.proceed();
+        }
+
+        @AroundInvoke
+        Object aroundInvoke(ArcInvocationContext ctx) throws Exception {
+            List<Tag> tags = ctx.findIterceptorBindings(Tag.class);
+            last = tags;
+            assertThrows(UnsupportedOperationException.class, () -> tags.add(null));
+            Set<String> values = tags.stream().map(Tag::value).collect(Collectors.toCollection(TreeSet::new));
+            if (!tags.contains(ctx.findIterceptorBinding(Tag.class))) {
+                throw new IllegalStateException("Inconsistent bindings: " + tags);
+            }
+            assertNull(ctx.findIterceptorBinding(Unused.class));
+            return values + ":" + (ctx.findIterceptorBinding(SomeBinding.class) != null) + ":" + ctx.proceed();
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+package io.quarkus.arc.test.interceptors.chain;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.DirectAroundInvokeInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Counter;
+import io.quarkus.arc.test.interceptors.Simple;
+import io.quarkus.arc.test.interceptors.SimpleInterceptor;
+
+public class DirectChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, Counter.class, SimpleInterceptor.class,
+            Monitored.class, Private.class, Escaping.class, AlphaInterceptor.class, BravoInterceptor.class,
+            PrivateInterceptor.class, EscapingInterceptor.class, SimpleBean.class, OtherBean.class);
+
+    @Test
+    public void testDirectChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // SimpleInterceptor is invoked via InjectableInterceptor#intercept(), Alpha and Bravo are invoked directly
+        assertEquals("0A:B:ping:B:A1", bean.ping());
+        assertTrue(AlphaInterceptor.direct);
+        assertEquals("1A:B:pong:B:A2", bean.pong());
+        assertEquals("2A:B:ping:B:A3", bean.ping());
+    }
+
+    @Test
+    public void testFallbackChain() {
+        OtherBean bean = Arc.container().instance(OtherBean.class).get();
+        // PrivateInterceptor is invoked via reflection
+        assertEquals("A:P:ping:P:A", bean.ping());
+        assertFalse(AlphaInterceptor.direct);
+    }
+
+    @Test
+    public void testEscapingContext() {
+        OtherBean bean = Arc.container().instance(OtherBean.class).get();
+        // EscapingInterceptor stores the invocation context
+        assertEquals("A:pong:A", bean.pong());
+        assertFalse(AlphaInterceptor.direct);
+        assertEquals(1, EscapingInterceptor.CONTEXTS.size());
+    }
+
+    @Test
+    public void testVoidMethod() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // The chain execution of a void method may continue asynchronously
+        bean.touch();
+        assertFalse(AlphaInterceptor.direct);
+    }
+
+    @Simple
+    @Monitored
+    @Singleton
+    static class SimpleBean {
+
+        String ping() {
+            return "ping";
+        }
+
+        String pong() {
+            return "pong";
+        }
+
+        void touch() {
+        }
+
+    }
+
+    @Monitored
+    @Singleton
+    static class OtherBean {
+
+        @Private
+        String ping() {
+            return "ping";
+        }
+
+        @Escaping
+        String pong() {
+            return "pong";
+        }
+
+    }
+
+    @Monitored
+    @Priority(2)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        // Note that the invocation context must not be stored in a field of an interceptor
+        static boolean direct;
+
+        @AroundInvoke
+        public Object around(InvocationContext ctx) throws Exception {
+            direct = ctx instanceof DirectAroundInvokeInvocationContext;
+            return "A:" + ctx.proceed() + ":A";
+        }
+
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return "B:" + ctx.proceed() + ":B";
+        }
+
+    }
+
+    @Private
+    @Priority(3)
+    @Interceptor
+    static class PrivateInterceptor {
+
+        @AroundInvoke
+        private Object around(InvocationContext ctx) throws Exception {
+            return "P:" + ctx.proceed() + ":P";
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    @interface Monitored {
+
+    }
+
+    @Escaping
+    @Priority(3)
+    @Interceptor
+    static class EscapingInterceptor {
+
+        static final List<InvocationContext> CONTEXTS = new CopyOnWriteArrayList<>();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return ctx.proceed();
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    @interface Private {
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    @interface Escaping {
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FireAndForgetInterceptorTest {
+
+    static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(FireAndForget.class, Notifier.class,
+            FireAndForgetInterceptor.class, CountingInterceptor.class);
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testChainContinuesAsynchronously() throws InterruptedException {
+        Notifier notifier = Arc.container().instance(Notifier.class).get();
+        CountDownLatch latch = new CountDownLatch(1);
+        notifier.send(latch);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, FireAndForgetInterceptor.INVOCATIONS.get());
+        assertEquals(1, CountingInterceptor.INVOCATIONS.get());
+        assertEquals(1, Notifier.INVOCATIONS.get());
+        assertNotEquals(Thread.currentThread(), Notifier.thread);
+    }
+
+    @FireAndForget
+    @Singleton
+    static class Notifier {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+        static volatile Thread thread;
+
+        void send(CountDownLatch latch) {
+            INVOCATIONS.incrementAndGet();
+            thread = Thread.currentThread();
+            latch.countDown();
+        }
+
+    }
+
+    @FireAndForget
+    @Priority(1)
+    @Interceptor
+    static class FireAndForgetInterceptor {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            if (INVOCATIONS.incrementAndGet() > 1) {
+                // The chain execution must continue with the next interceptor
+                throw new IllegalStateException("Interceptor invoked repeatedly");
+            }
+            EXECUTOR.submit(ctx::proceed);
+            return null;
+        }
+
+    }
+
+    @FireAndForget
+    @Priority(2)
+    @Interceptor
+    static class CountingInterceptor {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            INVOCATIONS.incrementAndGet();
+            return ctx.proceed();
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    @interface FireAndForget {
+
+    }
+
+}
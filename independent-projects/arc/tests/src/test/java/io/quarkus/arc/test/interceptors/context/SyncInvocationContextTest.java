@@ -0,0 +1,172 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+public class SyncInvocationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, Escaping.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, EscapingInterceptor.class);
+
+    @BeforeEach
+    void reset() {
+        // Note that the interceptors only record the identity hash code; storing the context would make it escape
+        AlphaInterceptor.CONTEXTS.clear();
+        BravoInterceptor.CONTEXTS.clear();
+        BravoInterceptor.alpha = null;
+        EscapingInterceptor.CONTEXTS.clear();
+        SimpleBean.ATTEMPTS = 0;
+    }
+
+    @Test
+    public void testSyncChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // Alpha retries the invocation once
+        assertEquals("A:B:2:B:A", bean.foo());
+        assertEquals(1, AlphaInterceptor.CONTEXTS.size());
+        assertEquals(2, BravoInterceptor.CONTEXTS.size());
+        // The same context instance is used for the whole chain
+        assertEquals(AlphaInterceptor.CONTEXTS.get(0), BravoInterceptor.CONTEXTS.get(0));
+        assertEquals(AlphaInterceptor.CONTEXTS.get(0), BravoInterceptor.CONTEXTS.get(1));
+        // Context data is shared
+        assertEquals("alpha", BravoInterceptor.alpha);
+    }
+
+    @Test
+    public void testAsyncChain() throws Exception {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("A:B:ok:B:A", bean.bar().toCompletableFuture().get());
+        // A new context is created for each interceptor
+        assertEquals(1, AlphaInterceptor.CONTEXTS.size());
+        assertEquals(1, BravoInterceptor.CONTEXTS.size());
+        assertNotEquals(AlphaInterceptor.CONTEXTS.get(0), BravoInterceptor.CONTEXTS.get(0));
+        assertEquals("alpha", BravoInterceptor.alpha);
+    }
+
+    @Test
+    public void testEscapingContext() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("A:B:baz:B:A", bean.baz());
+        // EscapingInterceptor stores the context in a collection - a new context is created for each interceptor
+        assertEquals(1, EscapingInterceptor.CONTEXTS.size());
+        assertNotEquals(AlphaInterceptor.CONTEXTS.get(0), BravoInterceptor.CONTEXTS.get(0));
+        assertNotEquals(BravoInterceptor.CONTEXTS.get(0), EscapingInterceptor.CONTEXTS.get(0).hashCode());
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        static int ATTEMPTS;
+
+        String foo() {
+            if (++ATTEMPTS == 1) {
+                throw new IllegalStateException();
+            }
+            return "" + ATTEMPTS;
+        }
+
+        CompletionStage<String> bar() {
+            return CompletableFuture.completedFuture("ok");
+        }
+
+        @Escaping
+        String baz() {
+            return "baz";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static final List<Integer> CONTEXTS = new ArrayList<>();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx.hashCode());
+            ctx.getContextData().put("alpha", "alpha");
+            Object ret;
+            try {
+                ret = ctx.proceed();
+            } catch (IllegalStateException e) {
+                // Retry
+                ret = ctx.proceed();
+            }
+            if (ret instanceof CompletionStage) {
+                return ((CompletionStage<?>) ret).thenApply(v -> "A:" + v + ":A");
+            }
+            return "A:" + ret + ":A";
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static final List<Integer> CONTEXTS = new ArrayList<>();
+        static volatile Object alpha;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx.hashCode());
+            alpha = ctx.getContextData().get("alpha");
+            Object ret = ctx.proceed();
+            if (ret instanceof CompletionStage) {
+                return ((CompletionStage<?>) ret).thenApply(v -> "B:" + v + ":B");
+            }
+            return "B:" + ret + ":B";
+        }
+    }
+
+    @Escaping
+    @Priority(3)
+    @Interceptor
+    public static class EscapingInterceptor {
+
+        static final List<InvocationContext> CONTEXTS = new ArrayList<>();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return ctx.proceed();
+        }
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    @interface Escaping {
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.LockException;
+import io.quarkus.arc.LockStatistics;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimisticReadLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class, Lock.class, LockInterceptor.class);
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(3);
+        Counter.reset();
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        Counter.blockRead(2);
+        Future<Integer> first = executor.submit(counter::get);
+        Future<Integer> second = executor.submit(counter::get);
+        // Both readers are inside the business method at the same time
+        assertTrue(Counter.READ_INSIDE.await(5, TimeUnit.SECONDS));
+        Counter.READ_MAY_COMPLETE.countDown();
+        assertEquals(0, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, Counter.READS.get());
+    }
+
+    @Test
+    public void testReadRepeatedAfterWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        long failures = LockStatistics.get().getOptimisticReadFailures();
+        Counter.blockRead(1);
+        Future<Integer> read = executor.submit(counter::get);
+        assertTrue(Counter.READ_INSIDE.await(5, TimeUnit.SECONDS));
+        // The optimistic reader does not hold a lock
+        executor.submit(counter::increment).get(5, TimeUnit.SECONDS);
+        Counter.READ_MAY_COMPLETE.countDown();
+        // The stale value is discarded and the business method is invoked again while holding the read lock
+        assertEquals(1, read.get(5, TimeUnit.SECONDS));
+        assertEquals(2, Counter.READS.get());
+        assertEquals(failures + 1, LockStatistics.get().getOptimisticReadFailures());
+    }
+
+    @Test
+    public void testReadWaitsForWriter() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        LockStatistics statistics = LockStatistics.get();
+        long contended = statistics.getContendedAcquisitions();
+        Counter.blockWrite();
+        Future<?> write = executor.submit(counter::increment);
+        assertTrue(Counter.WRITE_INSIDE.await(5, TimeUnit.SECONDS));
+        Future<Integer> read = executor.submit(counter::get);
+        assertThrows(TimeoutException.class, () -> read.get(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, Counter.READS.get());
+        Counter.WRITE_MAY_COMPLETE.countDown();
+        write.get(5, TimeUnit.SECONDS);
+        assertEquals(1, read.get(5, TimeUnit.SECONDS));
+        assertEquals(1, Counter.READS.get());
+        assertTrue(statistics.getContendedAcquisitions() > contended);
+        assertTrue(statistics.getWaitTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void testWriteTimeout() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        long timeouts = LockStatistics.get().getTimeouts();
+        Counter.blockWrite();
+        Future<?> write = executor.submit(counter::increment);
+        assertTrue(Counter.WRITE_INSIDE.await(5, TimeUnit.SECONDS));
+        Future<?> clear = executor.submit(counter::clear);
+        ExecutionException expected = assertThrows(ExecutionException.class, () -> clear.get(5, TimeUnit.SECONDS));
+        assertEquals(LockException.class, expected.getCause().getClass());
+        Counter.WRITE_MAY_COMPLETE.countDown();
+        write.get(5, TimeUnit.SECONDS);
+        assertEquals(timeouts + 1, LockStatistics.get().getTimeouts());
+    }
+
+    @Test
+    public void testReadWithinWrite() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertEquals(1, counter.incrementAndGet());
+        assertEquals(1, Counter.READS.get());
+    }
+
+    @Lock(Type.OPTIMISTIC_READ)
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger READS = new AtomicInteger();
+        static volatile CountDownLatch READ_INSIDE;
+        static volatile CountDownLatch READ_MAY_COMPLETE;
+        static volatile CountDownLatch WRITE_INSIDE;
+        static volatile CountDownLatch WRITE_MAY_COMPLETE;
+
+        private int value;
+
+        static void reset() {
+            READS.set(0);
+            READ_INSIDE = null;
+            READ_MAY_COMPLETE = null;
+            WRITE_INSIDE = null;
+            WRITE_MAY_COMPLETE = null;
+        }
+
+        static void blockRead(int readers) {
+            READ_INSIDE = new CountDownLatch(readers);
+            READ_MAY_COMPLETE = new CountDownLatch(1);
+        }
+
+        static void blockWrite() {
+            WRITE_INSIDE = new CountDownLatch(1);
+            WRITE_MAY_COMPLETE = new CountDownLatch(1);
+        }
+
+        int get() throws InterruptedException {
+            int result = value;
+            READS.incrementAndGet();
+            CountDownLatch inside = READ_INSIDE;
+            if (inside != null && inside.getCount() > 0) {
+                inside.countDown();
+                assertTrue(READ_MAY_COMPLETE.await(5, TimeUnit.SECONDS));
+            }
+            return result;
+        }
+
+        @Lock(Type.WRITE)
+        int increment() throws InterruptedException {
+            if (WRITE_INSIDE != null) {
+                WRITE_INSIDE.countDown();
+                assertTrue(WRITE_MAY_COMPLETE.await(5, TimeUnit.SECONDS));
+            }
+            return ++value;
+        }
+
+        @Lock(value = Type.WRITE, time = 100)
+        void clear() {
+            value = 0;
+        }
+
+        @Lock(Type.WRITE)
+        int incrementAndGet() {
+            value++;
+            try {
+                // The write lock is held by the current thread
+                return get();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+package io.quarkus.arc.test.maxconcurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.MaxConcurrency;
+import io.quarkus.arc.MaxConcurrency.Scope;
+import io.quarkus.arc.MaxConcurrencyException;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.smallrye.mutiny.Uni;
+
+public class MaxConcurrencyTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, ReactiveService.class);
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(4);
+        Service.INSIDE.set(0);
+        Service.MAX_INSIDE.set(0);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBeanLimit() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> service.await(mayComplete));
+        Future<?> second = executor.submit(() -> service.awaitToo(mayComplete));
+        awaitInside(2);
+        // Both methods share the permits of the class-level binding
+        Future<?> third = executor.submit(() -> service.await(mayComplete));
+        assertThrows(TimeoutException.class, () -> third.get(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, Service.INSIDE.get());
+        mayComplete.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(2, Service.MAX_INSIDE.get());
+    }
+
+    @Test
+    public void testFailFast() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> service.failFast(mayComplete));
+        awaitInside(1);
+        assertThrows(MaxConcurrencyException.class, () -> service.failFast(mayComplete));
+        mayComplete.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        // The permit was released
+        service.failFast(mayComplete);
+    }
+
+    @Test
+    public void testWaitTime() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> service.waitTime(mayComplete));
+        awaitInside(1);
+        MaxConcurrencyException expected = assertThrows(MaxConcurrencyException.class,
+                () -> service.waitTime(mayComplete));
+        assertTrue(expected.getMessage().contains("Permit not acquired in 100 ms"), expected.getMessage());
+        mayComplete.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testMethodScope() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> service.perMethodAlpha(mayComplete));
+        // Each method has its own permits
+        Future<?> second = executor.submit(() -> service.perMethodBravo(mayComplete));
+        awaitInside(2);
+        assertThrows(MaxConcurrencyException.class, () -> service.perMethodAlpha(mayComplete));
+        mayComplete.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUni() {
+        ReactiveService service = Arc.container().instance(ReactiveService.class).get();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Uni<String> uni = service.uni(future);
+        // The permit is not acquired until the uni is subscribed
+        Uni<String> other = service.uni(CompletableFuture.completedFuture("other"));
+        CompletableFuture<String> result = uni.subscribeAsCompletionStage();
+        assertThrows(MaxConcurrencyException.class, () -> other.await().indefinitely());
+        future.complete("foo");
+        assertEquals("foo", result.join());
+        // The permit was released when the uni completed
+        assertEquals("other", other.await().indefinitely());
+    }
+
+    @Test
+    public void testUniCancelled() {
+        ReactiveService service = Arc.container().instance(ReactiveService.class).get();
+        CompletableFuture<String> result = service.uni(new CompletableFuture<>()).subscribeAsCompletionStage();
+        assertThrows(MaxConcurrencyException.class,
+                () -> service.uni(CompletableFuture.completedFuture("other")).await().indefinitely());
+        result.cancel(true);
+        assertEquals("other", service.uni(CompletableFuture.completedFuture("other")).await().indefinitely());
+    }
+
+    @Test
+    public void testCompletionStage() throws Exception {
+        ReactiveService service = Arc.container().instance(ReactiveService.class).get();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletionStage<String> stage = service.stage(future);
+        ExecutionException expected = assertThrows(ExecutionException.class,
+                () -> service.stage(CompletableFuture.completedFuture("other")).toCompletableFuture().get());
+        assertEquals(MaxConcurrencyException.class, expected.getCause().getClass());
+        future.complete("foo");
+        assertEquals("foo", stage.toCompletableFuture().get());
+        assertEquals("other", service.stage(CompletableFuture.completedFuture("other")).toCompletableFuture().get());
+    }
+
+    @Test
+    public void testNullResult() throws Exception {
+        ReactiveService service = Arc.container().instance(ReactiveService.class).get();
+        ExecutionException expected = assertThrows(ExecutionException.class,
+                () -> service.stage(null).toCompletableFuture().get());
+        assertEquals(NullPointerException.class, expected.getCause().getClass());
+        assertThrows(NullPointerException.class, () -> service.nullUni().await().indefinitely());
+        // The permits were released
+        assertEquals("other", service.stage(CompletableFuture.completedFuture("other")).toCompletableFuture().get());
+        assertEquals("other", service.uni(CompletableFuture.completedFuture("other")).await().indefinitely());
+    }
+
+    private static void awaitInside(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Service.INSIDE.get() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Invocations not started");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    @MaxConcurrency(2)
+    @ApplicationScoped
+    static class Service {
+
+        static final AtomicInteger INSIDE = new AtomicInteger();
+        static final AtomicInteger MAX_INSIDE = new AtomicInteger();
+
+        void await(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        void awaitToo(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        @MaxConcurrency(value = 1, failFast = true)
+        void failFast(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        @MaxConcurrency(value = 1, time = 100)
+        void waitTime(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        @MaxConcurrency(value = 1, failFast = true, scope = Scope.METHOD)
+        void perMethodAlpha(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        @MaxConcurrency(value = 1, failFast = true, scope = Scope.METHOD)
+        void perMethodBravo(CountDownLatch mayComplete) {
+            block(mayComplete);
+        }
+
+        // Self-invocation of a business method would require another permit
+        private static void block(CountDownLatch mayComplete) {
+            int inside = INSIDE.incrementAndGet();
+            MAX_INSIDE.accumulateAndGet(inside, Math::max);
+            try {
+                assertTrue(mayComplete.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                INSIDE.decrementAndGet();
+            }
+        }
+
+    }
+
+    @MaxConcurrency(value = 1, failFast = true)
+    @ApplicationScoped
+    static class ReactiveService {
+
+        Uni<String> uni(CompletableFuture<String> future) {
+            return Uni.createFrom().completionStage(future);
+        }
+
+        CompletionStage<String> stage(CompletableFuture<String> future) {
+            return future;
+        }
+
+        Uni<String> nullUni() {
+            return null;
+        }
+
+    }
+
+}
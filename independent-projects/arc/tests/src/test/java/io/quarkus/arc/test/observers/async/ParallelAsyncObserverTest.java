@@ -0,0 +1,158 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Ping.class, PingObserver.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        PingObserver.EVENTS.clear();
+    }
+
+    @AfterEach
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelMode() throws InterruptedException, ExecutionException {
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        Ping ping = new Ping(false);
+        assertEquals(ping, event.fireAsync(ping, ArcNotificationOptions.withParallelMode(executor)).toCompletableFuture()
+                .get());
+        // Observers with the same priority were notified concurrently
+        assertTrue(ping.concurrent);
+        assertEquals(4, PingObserver.EVENTS.size());
+        assertEquals(Set.of("alpha", "bravo"), Set.copyOf(PingObserver.EVENTS.subList(0, 2)));
+        assertEquals(List.of("charlie", "delta"), PingObserver.EVENTS.subList(2, 4));
+        assertNotEquals(ping.alphaThread, ping.bravoThread);
+    }
+
+    @Test
+    public void testParallelModeName() throws InterruptedException, ExecutionException {
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        Ping ping = new Ping(false);
+        event.fireAsync(ping,
+                NotificationOptions.builder().setExecutor(executor).set(ArcNotificationOptions.MODE, "parallel").build())
+                .toCompletableFuture().get();
+        assertTrue(ping.concurrent);
+    }
+
+    @Test
+    public void testParallelModeExceptions() throws InterruptedException {
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        Ping ping = new Ping(true);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> event.fireAsync(ping, ArcNotificationOptions.withParallelMode(executor)).toCompletableFuture()
+                        .get());
+        assertTrue(exception.getCause() instanceof CompletionException);
+        // All observers were notified
+        assertEquals(4, PingObserver.EVENTS.size());
+        assertEquals(2, exception.getCause().getSuppressed().length);
+    }
+
+    @Test
+    public void testSerialMode() throws InterruptedException, ExecutionException {
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        Ping ping = new Ping(false);
+        event.fireAsync(ping, NotificationOptions.builder().setExecutor(executor)
+                .set(ArcNotificationOptions.MODE, NotificationMode.SERIAL).build()).toCompletableFuture().get();
+        assertEquals(4, PingObserver.EVENTS.size());
+        assertEquals(ping.alphaThread, ping.bravoThread);
+    }
+
+    public static class Ping {
+
+        final boolean fail;
+        final CountDownLatch latch = new CountDownLatch(2);
+        volatile boolean concurrent;
+        volatile Thread alphaThread;
+        volatile Thread bravoThread;
+
+        Ping(boolean fail) {
+            this.fail = fail;
+        }
+
+        void await() {
+            latch.countDown();
+            try {
+                // Both observers of the first group must be running at the same time
+                if (latch.await(200, TimeUnit.MILLISECONDS)) {
+                    concurrent = true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void alpha(@Priority(1) @ObservesAsync Ping ping) {
+            ping.alphaThread = Thread.currentThread();
+            ping.await();
+            EVENTS.add("alpha");
+            if (ping.fail) {
+                throw new IllegalStateException("alpha");
+            }
+        }
+
+        void bravo(@Priority(1) @ObservesAsync Ping ping) {
+            ping.bravoThread = Thread.currentThread();
+            ping.await();
+            EVENTS.add("bravo");
+        }
+
+        void charlie(@Priority(2) @ObservesAsync Ping ping) {
+            EVENTS.add("charlie");
+            if (ping.fail) {
+                throw new IllegalStateException("charlie");
+            }
+        }
+
+        void delta(@Priority(3) @ObservesAsync Ping ping) {
+            EVENTS.add("delta");
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.ExecutorStatistics;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class VirtualThreadExecutorTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(RequestFoo.class, PingObserver.class)
+            .initConfig(ArcInitConfig.builder().setVirtualThreadExecutor(true).build())
+            .build();
+
+    @Test
+    public void testDefaultExecutorWithoutVirtualThreads() {
+        assumeTrue(Runtime.version().feature() < 21);
+        // The built-in executor is not used
+        assertNull(ExecutorStatistics.get());
+        assertSame(ForkJoinPool.commonPool(), Arc.container().getExecutorService());
+    }
+
+    @Test
+    public void testRequestContextPropagated() throws InterruptedException, ExecutionException, TimeoutException {
+        assumeTrue(Runtime.version().feature() >= 21);
+        ArcContainer container = Arc.container();
+        assertNotNull(ExecutorStatistics.get());
+        Event<AtomicReference<String>> event = container.beanManager().getEvent()
+                .select(new TypeLiteral<AtomicReference<String>>() {
+                });
+        ManagedContext requestContext = container.requestContext();
+        requestContext.activate();
+        try {
+            String id = container.instance(RequestFoo.class).get().getId();
+            AtomicReference<String> ref = new AtomicReference<>();
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> continuationThread = new AtomicReference<>();
+            event.fireAsync(ref).thenAcceptAsync(r -> continuationThread.set(Thread.currentThread()))
+                    .toCompletableFuture().get(10, TimeUnit.SECONDS);
+            // The state of the request context was propagated
+            assertEquals(id, ref.get());
+            assertNotSame(caller, continuationThread.get());
+        } finally {
+            requestContext.terminate();
+        }
+        // Without an active request context a new one is activated for the notification
+        AtomicReference<String> ref = new AtomicReference<>();
+        event.fireAsync(ref).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertNotNull(ref.get());
+        assertFalse(requestContext.isActive());
+    }
+
+    @Test
+    public void testCounters() throws InterruptedException, ExecutionException, TimeoutException {
+        assumeTrue(Runtime.version().feature() >= 21);
+        ExecutorService executor = Arc.container().getExecutorService();
+        ExecutorStatistics statistics = ExecutorStatistics.get();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> task = executor.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(1, statistics.getInFlight());
+        assertEquals(0, statistics.getQueueDepth());
+        release.countDown();
+        task.get(10, TimeUnit.SECONDS);
+        // The counter is decremented after the future is completed
+        CompletableFuture.runAsync(() -> {
+            while (statistics.getInFlight() > 0) {
+                Thread.onSpinWait();
+            }
+        }).get(10, TimeUnit.SECONDS);
+        assertEquals(0, statistics.getInFlight());
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        void observe(@ObservesAsync AtomicReference<String> ref, RequestFoo foo) {
+            ref.set(foo.getId());
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+    }
+
+}
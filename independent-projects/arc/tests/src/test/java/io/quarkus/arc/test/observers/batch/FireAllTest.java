@@ -0,0 +1,123 @@
+package io.quarkus.arc.test.observers.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableEvent;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FireAllTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(RequestFoo.class, Emitter.class, MyObserver.class);
+
+    @BeforeEach
+    public void reset() {
+        MyObserver.EVENTS.clear();
+        MyObserver.FOO_IDS.clear();
+        RequestFoo.CREATED.set(0);
+        RequestFoo.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testFireAll() {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        emitter.event.fireAll(List.of("alpha", 1, "bravo", 2L));
+        // Events are delivered in order
+        assertEquals(List.of("alpha", "1", "bravo", "2"), MyObserver.EVENTS);
+        // The request context was activated once for the whole batch
+        assertEquals(1, RequestFoo.CREATED.get());
+        assertEquals(1, RequestFoo.DESTROYED.get());
+        assertEquals(1, Set.copyOf(MyObserver.FOO_IDS).size());
+
+        emitter.event.fireAll(List.of());
+        assertEquals(1, RequestFoo.CREATED.get());
+    }
+
+    @Test
+    public void testFireAllSelect() {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        emitter.event.select(String.class).fireAll(List.of("charlie", "delta"));
+        assertEquals(List.of("charlie", "delta"), MyObserver.EVENTS);
+        assertEquals(1, RequestFoo.CREATED.get());
+    }
+
+    @Test
+    public void testFireAllObserverException() {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        assertThrows(IllegalStateException.class, () -> emitter.event.fireAll(List.of("alpha", "fail", "bravo")));
+        // The remaining events are not delivered
+        assertEquals(List.of("alpha"), MyObserver.EVENTS);
+        assertEquals(1, RequestFoo.DESTROYED.get());
+    }
+
+    @Singleton
+    static class Emitter {
+
+        @Inject
+        InjectableEvent<Object> event;
+
+    }
+
+    @Singleton
+    static class MyObserver {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+        static final List<Integer> FOO_IDS = new CopyOnWriteArrayList<>();
+
+        void observeString(@Observes String value, RequestFoo foo) {
+            if (value.equals("fail")) {
+                throw new IllegalStateException();
+            }
+            FOO_IDS.add(foo.getId());
+            EVENTS.add(value);
+        }
+
+        void observeNumber(@Observes Number value, RequestFoo foo) {
+            FOO_IDS.add(foo.getId());
+            EVENTS.add(value.toString());
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int id;
+
+        @PostConstruct
+        void init() {
+            id = CREATED.incrementAndGet();
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+
+}
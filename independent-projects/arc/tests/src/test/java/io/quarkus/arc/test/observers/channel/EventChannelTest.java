@@ -0,0 +1,272 @@
+package io.quarkus.arc.test.observers.channel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.EventChannel;
+import io.quarkus.arc.EventChannel.OverflowPolicy;
+import io.quarkus.arc.EventChannelOptions;
+import io.quarkus.arc.InjectableEvent;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.smallrye.mutiny.Multi;
+
+public class EventChannelTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(PingObserver.class, RequestFoo.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        PingObserver.reset();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedDelivery() throws InterruptedException {
+        PingObserver.block = new CountDownLatch(1);
+        PingObserver.latch = new CountDownLatch(1);
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().setBatchSize(10).build())) {
+            assertTrue(channel.send(new Ping(0)));
+            // Wait until the worker blocks in the observer so that the remaining events are queued
+            assertTrue(PingObserver.latch.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < 101; i++) {
+                assertTrue(channel.send(new Ping(i)));
+            }
+            PingObserver.block.countDown();
+            awaitDelivered(channel, 101);
+            // A single worker delivers the events in order
+            assertEquals(IntStream.range(0, 101).boxed().collect(Collectors.toList()), PingObserver.RECEIVED);
+            // The request context is activated once per batch
+            assertEquals(11, PingObserver.REQUEST_IDS.size());
+            // Sync observers are not notified
+            assertEquals(0, PingObserver.SYNC.get());
+        }
+    }
+
+    @Test
+    public void testMultipleWorkers() throws InterruptedException {
+        PingObserver.latch = new CountDownLatch(1000);
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().setWorkers(3).setBatchSize(8).build())) {
+            for (int i = 0; i < 1000; i++) {
+                channel.send(new Ping(i));
+            }
+            assertTrue(PingObserver.latch.await(5, TimeUnit.SECONDS));
+            assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toSet()), Set.copyOf(PingObserver.RECEIVED));
+        }
+    }
+
+    @Test
+    public void testDropPolicy() throws InterruptedException {
+        PingObserver.block = new CountDownLatch(1);
+        PingObserver.latch = new CountDownLatch(1);
+        try (EventChannel<Ping> channel = pingEvent()
+                .openChannel(options().setCapacity(2).setBatchSize(1).setOverflowPolicy(OverflowPolicy.DROP).build())) {
+            assertTrue(channel.send(new Ping(0)));
+            // Wait until the worker blocks in the observer
+            assertTrue(PingObserver.latch.await(5, TimeUnit.SECONDS));
+            assertTrue(channel.send(new Ping(1)));
+            assertTrue(channel.send(new Ping(2)));
+            assertFalse(channel.send(new Ping(3)));
+            assertEquals(1, channel.getDropped());
+            assertEquals(2, channel.getQueueSize());
+            PingObserver.block.countDown();
+            awaitDelivered(channel, 3);
+            assertEquals(List.of(0, 1, 2), PingObserver.RECEIVED);
+        }
+    }
+
+    @Test
+    public void testFailPolicy() throws InterruptedException {
+        PingObserver.block = new CountDownLatch(1);
+        PingObserver.latch = new CountDownLatch(1);
+        EventChannel<Ping> channel = pingEvent()
+                .openChannel(options().setCapacity(1).setBatchSize(1).setOverflowPolicy(OverflowPolicy.FAIL).build());
+        channel.send(new Ping(0));
+        assertTrue(PingObserver.latch.await(5, TimeUnit.SECONDS));
+        channel.send(new Ping(1));
+        assertThrows(IllegalStateException.class, () -> channel.send(new Ping(2)));
+        PingObserver.block.countDown();
+        awaitDelivered(channel, 2);
+        channel.close();
+        assertTrue(channel.isClosed());
+        assertThrows(IllegalStateException.class, () -> channel.send(new Ping(3)));
+    }
+
+    @Test
+    public void testBlockPolicy() throws InterruptedException {
+        PingObserver.block = new CountDownLatch(1);
+        PingObserver.latch = new CountDownLatch(1);
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().setCapacity(1).setBatchSize(1).build())) {
+            channel.send(new Ping(0));
+            assertTrue(PingObserver.latch.await(5, TimeUnit.SECONDS));
+            channel.send(new Ping(1));
+            CountDownLatch sent = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                channel.send(new Ping(2));
+                sent.countDown();
+            });
+            producer.start();
+            // The producer is blocked until there is free space in the queue
+            assertFalse(sent.await(100, TimeUnit.MILLISECONDS));
+            PingObserver.block.countDown();
+            assertTrue(sent.await(5, TimeUnit.SECONDS));
+            awaitDelivered(channel, 3);
+            assertEquals(List.of(0, 1, 2), PingObserver.RECEIVED);
+        }
+    }
+
+    @Test
+    public void testSendAll() {
+        AtomicLong maxRequested = new AtomicLong();
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().setCapacity(16).setBatchSize(4).build())) {
+            Multi<Ping> pings = Multi.createFrom().range(0, 1000)
+                    .onRequest().invoke(n -> maxRequested.accumulateAndGet(n, Math::max))
+                    .map(Ping::new);
+            channel.sendAll(pings).await().atMost(Duration.ofSeconds(5));
+            awaitDelivered(channel, 1000);
+            assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), PingObserver.RECEIVED);
+            // Events are requested in chunks of the batch size
+            assertEquals(4, maxRequested.get());
+            assertEquals(0, channel.getDropped());
+        }
+    }
+
+    @Test
+    public void testSendAllFailure() {
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().build())) {
+            Multi<Ping> pings = Multi.createFrom().failure(new IllegalArgumentException());
+            assertThrows(IllegalArgumentException.class, () -> channel.sendAll(pings).await().atMost(Duration.ofSeconds(5)));
+            channel.close();
+            assertThrows(IllegalStateException.class,
+                    () -> channel.sendAll(Multi.createFrom().item(new Ping(1))).await().atMost(Duration.ofSeconds(5)));
+        }
+    }
+
+    @Test
+    public void testObserverException() {
+        try (EventChannel<Ping> channel = pingEvent().openChannel(options().build())) {
+            channel.send(new Ping(-1));
+            channel.send(new Ping(1));
+            awaitDelivered(channel, 2);
+            assertEquals(List.of(-1, 1), PingObserver.RECEIVED);
+        }
+    }
+
+    private EventChannelOptions.Builder options() {
+        return EventChannelOptions.builder().setExecutor(executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private InjectableEvent<Ping> pingEvent() {
+        return (InjectableEvent<Ping>) Arc.container().beanManager().getEvent().select(Ping.class);
+    }
+
+    private static void awaitDelivered(EventChannel<?> channel, long count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (channel.getDelivered() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Delivered " + channel.getDelivered() + " events, expected " + count);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public static class Ping {
+
+        final int value;
+
+        public Ping(int value) {
+            this.value = value;
+        }
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        static final List<Integer> RECEIVED = new CopyOnWriteArrayList<>();
+        static final Set<String> REQUEST_IDS = ConcurrentHashMap.newKeySet();
+        static final AtomicLong SYNC = new AtomicLong();
+        static volatile CountDownLatch latch;
+        static volatile CountDownLatch block;
+
+        static void reset() {
+            RECEIVED.clear();
+            REQUEST_IDS.clear();
+            SYNC.set(0);
+            latch = null;
+            block = null;
+        }
+
+        @Inject
+        RequestFoo foo;
+
+        void onPing(@ObservesAsync Ping ping) throws InterruptedException {
+            RECEIVED.add(ping.value);
+            REQUEST_IDS.add(foo.getId());
+            CountDownLatch latch = PingObserver.latch;
+            if (latch != null) {
+                latch.countDown();
+            }
+            CountDownLatch block = PingObserver.block;
+            if (block != null) {
+                block.await(5, TimeUnit.SECONDS);
+            }
+            if (ping.value < 0) {
+                throw new IllegalStateException("Negative");
+            }
+        }
+
+        void onSyncPing(@Observes Ping ping) {
+            SYNC.incrementAndGet();
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+package io.quarkus.arc.test.observers.dispatcher;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverDispatcherTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Ping.class, Pong.class, Important.class, AlphaObserver.class,
+            BravoObserver.class, CharlieObserver.class);
+
+    @BeforeEach
+    public void reset() {
+        EVENTS.clear();
+        DISPATCHED.clear();
+        AlphaObserver.INSTANCES.clear();
+    }
+
+    @Test
+    public void testDispatcher() {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        event.fire(new Ping("ping"));
+        assertEquals(List.of("alpha1", "bravo2", "alpha3", "charlie4"), EVENTS);
+        // All observers were notified by the generated dispatcher
+        assertEquals(List.of(true, true, true, true), DISPATCHED);
+        // The contextual instance of AlphaObserver was obtained once
+        assertEquals(2, AlphaObserver.INSTANCES.size());
+        assertEquals(1, AlphaObserver.INSTANCES.stream().distinct().count());
+    }
+
+    @Test
+    public void testQualifiedEvent() {
+        // The resolved observers do not match the dispatcher
+        Arc.container().beanManager().getEvent().select(Ping.class, Important.Literal.INSTANCE).fire(new Ping("ping"));
+        assertEquals(List.of("alpha1", "bravo2", "alpha3", "charlie4", "important"), EVENTS);
+        assertFalse(DISPATCHED.contains(true));
+    }
+
+    @Test
+    public void testSubtype() {
+        // A separate dispatcher is generated for Pong
+        Arc.container().beanManager().getEvent().select(Pong.class).fire(new Pong("pong"));
+        assertEquals(List.of("alpha1", "bravo2", "alpha3", "charlie4", "pong"), EVENTS);
+        assertFalse(DISPATCHED.contains(false));
+    }
+
+    @Test
+    public void testException() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> Arc.container().beanManager().getEvent().select(Ping.class).fire(new Ping("fail")));
+        assertEquals("fail", e.getMessage());
+        assertEquals(List.of("alpha1"), EVENTS);
+    }
+
+    static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+    static final List<Boolean> DISPATCHED = new CopyOnWriteArrayList<>();
+
+    static void record(String event) {
+        EVENTS.add(event);
+        DISPATCHED.add(Arrays.stream(new Throwable().getStackTrace())
+                .anyMatch(e -> e.getClassName().contains("_ObserverDispatcher")));
+    }
+
+    public static class Ping {
+
+        final String value;
+
+        Ping(String value) {
+            this.value = value;
+        }
+
+    }
+
+    public static class Pong extends Ping {
+
+        Pong(String value) {
+            super(value);
+        }
+
+    }
+
+    @Singleton
+    static class AlphaObserver {
+
+        static final List<Object> INSTANCES = new CopyOnWriteArrayList<>();
+
+        void first(@Observes @Priority(1) Ping ping) {
+            INSTANCES.add(this);
+            record("alpha1");
+            if (ping.value.equals("fail")) {
+                throw new IllegalStateException("fail");
+            }
+        }
+
+        void third(@Observes @Priority(3) Ping ping) {
+            INSTANCES.add(this);
+            record("alpha3");
+        }
+
+        void important(@Observes @Priority(6) @Important Ping ping) {
+            record("important");
+        }
+
+    }
+
+    @ApplicationScoped
+    static class BravoObserver {
+
+        void second(@Observes @Priority(2) Ping ping) {
+            record("bravo2");
+        }
+
+        void pong(@Observes @Priority(5) Pong pong) {
+            record("pong");
+        }
+
+    }
+
+    @Dependent
+    static class CharlieObserver {
+
+        void fourth(@Observes @Priority(4) Object ping) {
+            if (ping instanceof Ping) {
+                record("charlie4");
+            }
+        }
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, PARAMETER, FIELD })
+    @Retention(RUNTIME)
+    public @interface Important {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Important> implements Important {
+
+            static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.quarkus.arc.test.observers.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextActivationDefaultTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Independent.class);
+
+    @Test
+    public void testRequestContextActivatedByDefault() {
+        Set<ObserverMethod<? super Long>> observers = Arc.container().beanManager().resolveObserverMethods(1L);
+        assertEquals(1, observers.size());
+        assertTrue(((InjectableObserverMethod<?>) observers.iterator().next()).isRequestContextRequired());
+
+        Arc.container().beanManager().getEvent().fire(1L);
+        // The observer may perform a programmatic lookup via Arc.container() or CDI.current()
+        assertTrue(Independent.ACTIVE.get());
+        assertFalse(Arc.container().requestContext().isActive());
+    }
+
+    @Singleton
+    static class Independent {
+
+        static final AtomicBoolean ACTIVE = new AtomicBoolean();
+
+        void observe(@Observes Long value) {
+            ACTIVE.set(Arc.container().requestContext().isActive());
+        }
+
+    }
+
+}
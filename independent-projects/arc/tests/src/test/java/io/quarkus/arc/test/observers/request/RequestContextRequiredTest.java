@@ -0,0 +1,177 @@
+package io.quarkus.arc.test.observers.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableEvent;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextRequiredTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Independent.class, RequestFoo.class, Indirect.class, DependsOnRequest.class,
+                    DependsOnInstance.class, DependsOnIndirect.class, FiresEvent.class)
+            .skipObserverRequestContextActivation(true)
+            .build();
+
+    static final Map<String, Boolean> ACTIVE = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void reset() {
+        ACTIVE.clear();
+    }
+
+    @Test
+    public void testRequestContextRequired() {
+        assertRequired(false, 1L);
+        assertRequired(true, 1);
+        assertRequired(true, 1.0);
+        assertRequired(true, (short) 1);
+        assertRequired(false, "foo");
+    }
+
+    @Test
+    public void testActivationSkipped() {
+        Arc.container().beanManager().getEvent().fire(1L);
+        assertEquals(Map.of("independent", false), ACTIVE);
+        assertFalse(Arc.container().requestContext().isActive());
+    }
+
+    @Test
+    public void testActivated() {
+        Arc.container().beanManager().getEvent().fire(1);
+        assertEquals(Map.of("request", true), ACTIVE);
+        ACTIVE.clear();
+
+        Arc.container().beanManager().getEvent().fire(1.0);
+        assertEquals(Map.of("instance", true), ACTIVE);
+        ACTIVE.clear();
+
+        Arc.container().beanManager().getEvent().fire((short) 1);
+        assertEquals(Map.of("indirect", true), ACTIVE);
+        assertFalse(Arc.container().requestContext().isActive());
+    }
+
+    @Test
+    public void testNestedEvent() {
+        // The observer of String does not need the request context but the observer of Integer does
+        Arc.container().beanManager().getEvent().fire("foo");
+        assertEquals(Map.of("fires", false, "request", true), ACTIVE);
+    }
+
+    @Test
+    public void testFireAll() {
+        Arc.container().select(FiresEvent.class).get().longEvent.fireAll(List.of(1L, 2L));
+        assertEquals(Map.of("independent", false), ACTIVE);
+    }
+
+    private static void assertRequired(boolean expected, Object event) {
+        Set<ObserverMethod<? super Object>> observers = Arc.container().beanManager().resolveObserverMethods(event);
+        assertEquals(1, observers.size(), observers.toString());
+        ObserverMethod<? super Object> observer = observers.iterator().next();
+        assertTrue(observer instanceof InjectableObserverMethod);
+        assertEquals(expected, ((InjectableObserverMethod<?>) observer).isRequestContextRequired(), observer.toString());
+    }
+
+    private static void record(String observer) {
+        ACTIVE.put(observer, Arc.container().requestContext().isActive());
+    }
+
+    @Singleton
+    static class Independent {
+
+        void observe(@Observes Long value) {
+            record("independent");
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        void ping() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Indirect {
+
+        @Inject
+        RequestFoo foo;
+
+    }
+
+    @Singleton
+    static class DependsOnRequest {
+
+        void observe(@Observes Integer value, RequestFoo foo) {
+            foo.ping();
+            record("request");
+        }
+
+    }
+
+    @Singleton
+    static class DependsOnInstance {
+
+        @Inject
+        Instance<Object> instance;
+
+        void observe(@Observes Double value) {
+            record("instance");
+        }
+
+    }
+
+    @ApplicationScoped
+    static class DependsOnIndirect {
+
+        @Inject
+        Indirect indirect;
+
+        void observe(@Observes Short value) {
+            record("indirect");
+        }
+
+    }
+
+    @Singleton
+    static class FiresEvent {
+
+        @Inject
+        Event<Integer> event;
+
+        @Inject
+        InjectableEvent<Long> longEvent;
+
+        void observe(@Observes String value) {
+            record("fires");
+            event.fire(1);
+        }
+
+    }
+
+}
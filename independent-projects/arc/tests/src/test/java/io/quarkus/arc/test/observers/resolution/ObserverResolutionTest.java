@@ -0,0 +1,161 @@
+package io.quarkus.arc.test.observers.resolution;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Observers.class);
+
+    @BeforeEach
+    public void reset() {
+        Observers.EVENTS.clear();
+    }
+
+    @Test
+    public void testMergedOrder() {
+        Arc.container().beanManager().getEvent().select(Child.class).fire(new Child());
+        // Observers of different types are notified in the order of their priorities
+        assertEquals(List.of("object1", "parent2", "iface3", "child4", "generic6"), Observers.EVENTS);
+    }
+
+    @Test
+    public void testQualifiers() {
+        Arc.container().beanManager().getEvent().select(Child.class, Alpha.Literal.INSTANCE).fire(new Child());
+        assertEquals(List.of("object1", "parent2", "iface3", "child4", "objectAlpha5", "generic6", "alphaAny7"),
+                Observers.EVENTS);
+        Observers.EVENTS.clear();
+
+        Arc.container().beanManager().getEvent().select(Child.class, Alpha.Literal.INSTANCE, Bravo.Literal.INSTANCE)
+                .fire(new Child());
+        assertEquals(List.of("object1", "parent2", "iface3", "child4", "objectAlpha5", "generic6", "alphaAny7",
+                "alphaBravo8"), Observers.EVENTS);
+        Observers.EVENTS.clear();
+
+        Arc.container().beanManager().getEvent().select(Parent.class, Bravo.Literal.INSTANCE).fire(new Parent());
+        assertEquals(List.of("object1", "parent2", "iface3", "generic6"), Observers.EVENTS);
+    }
+
+    @Test
+    public void testBeanManager() {
+        BeanManager beanManager = Arc.container().beanManager();
+        Set<ObserverMethod<? super Child>> observers = beanManager.resolveObserverMethods(new Child(),
+                Alpha.Literal.INSTANCE, Any.Literal.INSTANCE);
+        assertEquals(7, observers.size());
+        List<String> unrelated = new ArrayList<>();
+        for (ObserverMethod<? super String> observer : beanManager.resolveObserverMethods("foo")) {
+            unrelated.add(observer.getObservedType().getTypeName());
+        }
+        assertEquals(List.of(Object.class.getName()), unrelated);
+    }
+
+    public interface Iface {
+    }
+
+    public static class Parent implements Iface {
+    }
+
+    public static class Child extends Parent {
+    }
+
+    @Singleton
+    static class Observers {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void child(@Observes @Priority(4) Child child) {
+            EVENTS.add("child4");
+        }
+
+        void parent(@Observes @Priority(2) Parent parent) {
+            EVENTS.add("parent2");
+        }
+
+        void iface(@Observes @Priority(3) Iface iface) {
+            EVENTS.add("iface3");
+        }
+
+        void object(@Observes @Priority(1) Object object) {
+            // Also notified about container lifecycle events
+            if (object instanceof Iface) {
+                EVENTS.add("object1");
+            }
+        }
+
+        void objectAlpha(@Observes @Priority(5) @Alpha Object object) {
+            if (object instanceof Iface) {
+                EVENTS.add("objectAlpha5");
+            }
+        }
+
+        <T extends Iface> void generic(@Observes @Priority(6) T event) {
+            EVENTS.add("generic6");
+        }
+
+        void alphaAny(@Observes @Priority(7) @Alpha @Any Child child) {
+            EVENTS.add("alphaAny7");
+        }
+
+        void alphaBravo(@Observes @Priority(8) @Alpha @Bravo Parent parent) {
+            EVENTS.add("alphaBravo8");
+        }
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, PARAMETER, FIELD })
+    @Retention(RUNTIME)
+    public @interface Alpha {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Alpha> implements Alpha {
+
+            static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, PARAMETER, FIELD })
+    @Retention(RUNTIME)
+    public @interface Bravo {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Bravo> implements Bravo {
+
+            static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+package io.quarkus.arc.test.observers.transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.transaction.xa.XAResource;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Singleton;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableEvent;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class TransactionalObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Ping.class, PingObserver.class,
+            MockTransactionManager.class);
+
+    @BeforeEach
+    public void reset() {
+        PingObserver.EVENTS.clear();
+        MockTransactionManager tm = Arc.container().instance(MockTransactionManager.class).get();
+        tm.status = Status.STATUS_NO_TRANSACTION;
+        tm.synchronization = null;
+        tm.registrations = 0;
+        tm.failRegistration = false;
+    }
+
+    @Test
+    public void testNoTransaction() {
+        Arc.container().beanManager().getEvent().select(Ping.class).fire(new Ping());
+        // All sync observers are notified immediately; observers with the same priority are not ordered
+        assertEquals(Set.of("inProgress", "beforeCompletion", "afterSuccess", "afterFailure"), Set.copyOf(PingObserver.EVENTS));
+    }
+
+    @Test
+    public void testActiveTransaction() {
+        MockTransactionManager tm = Arc.container().instance(MockTransactionManager.class).get();
+        tm.status = Status.STATUS_ACTIVE;
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        event.fire(new Ping());
+        assertEquals(List.of("inProgress"), PingObserver.EVENTS);
+        assertNotNull(tm.synchronization);
+        tm.synchronization.beforeCompletion();
+        assertEquals(List.of("inProgress", "beforeCompletion"), PingObserver.EVENTS);
+        tm.synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        assertEquals(List.of("inProgress", "beforeCompletion", "afterSuccess"), PingObserver.EVENTS);
+
+        PingObserver.EVENTS.clear();
+        event.fire(new Ping());
+        tm.synchronization.beforeCompletion();
+        tm.synchronization.afterCompletion(Status.STATUS_ROLLEDBACK);
+        assertEquals(List.of("inProgress", "beforeCompletion", "afterFailure"), PingObserver.EVENTS);
+    }
+
+    @Test
+    public void testFireAll() {
+        MockTransactionManager tm = Arc.container().instance(MockTransactionManager.class).get();
+        tm.status = Status.STATUS_ACTIVE;
+        InjectableEvent<Ping> event = (InjectableEvent<Ping>) Arc.container().beanManager().getEvent().select(Ping.class);
+        event.fireAll(List.of(new Ping(), new Ping(), new Ping()));
+        assertEquals(List.of("inProgress", "inProgress", "inProgress"), PingObserver.EVENTS);
+        // A single synchronization is registered for the whole batch
+        assertEquals(1, tm.registrations);
+        PingObserver.EVENTS.clear();
+        tm.synchronization.beforeCompletion();
+        assertEquals(List.of("beforeCompletion", "beforeCompletion", "beforeCompletion"), PingObserver.EVENTS);
+        PingObserver.EVENTS.clear();
+        tm.synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        assertEquals(List.of("afterSuccess", "afterSuccess", "afterSuccess"), PingObserver.EVENTS);
+    }
+
+    @Test
+    public void testFireAllRegistrationFailed() {
+        MockTransactionManager tm = Arc.container().instance(MockTransactionManager.class).get();
+        tm.status = Status.STATUS_ACTIVE;
+        tm.failRegistration = true;
+        InjectableEvent<Ping> event = (InjectableEvent<Ping>) Arc.container().beanManager().getEvent().select(Ping.class);
+        event.fireAll(List.of(new Ping(), new Ping()));
+        assertEquals(Set.of("inProgress", "beforeCompletion", "afterFailure"), Set.copyOf(PingObserver.EVENTS));
+        assertEquals(6, PingObserver.EVENTS.size());
+        assertNull(tm.synchronization);
+    }
+
+    @Test
+    public void testRegistrationFailed() {
+        MockTransactionManager tm = Arc.container().instance(MockTransactionManager.class).get();
+        tm.status = Status.STATUS_ACTIVE;
+        tm.failRegistration = true;
+        Arc.container().beanManager().getEvent().select(Ping.class).fire(new Ping());
+        // AFTER_SUCCESS observers are left out
+        assertEquals(Set.of("inProgress", "beforeCompletion", "afterFailure"), Set.copyOf(PingObserver.EVENTS));
+        assertNull(tm.synchronization);
+    }
+
+    public static class Ping {
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void inProgress(@Observes Ping ping) {
+            EVENTS.add("inProgress");
+        }
+
+        void beforeCompletion(@Observes(during = TransactionPhase.BEFORE_COMPLETION) Ping ping) {
+            EVENTS.add("beforeCompletion");
+        }
+
+        void afterSuccess(@Observes(during = TransactionPhase.AFTER_SUCCESS) Ping ping) {
+            EVENTS.add("afterSuccess");
+        }
+
+        void afterFailure(@Observes(during = TransactionPhase.AFTER_FAILURE) Ping ping) {
+            EVENTS.add("afterFailure");
+        }
+
+        void async(@ObservesAsync Ping ping) {
+            EVENTS.add("async");
+        }
+
+    }
+
+    @Singleton
+    static class MockTransactionManager implements TransactionManager {
+
+        volatile int status;
+        volatile Synchronization synchronization;
+        volatile int registrations;
+        volatile boolean failRegistration;
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public Transaction getTransaction() {
+            return new Transaction() {
+
+                @Override
+                public void registerSynchronization(Synchronization sync) {
+                    if (failRegistration) {
+                        throw new IllegalStateException(new RollbackException());
+                    }
+                    synchronization = sync;
+                    registrations++;
+                }
+
+                @Override
+                public int getStatus() {
+                    return status;
+                }
+
+                @Override
+                public void commit() {
+                }
+
+                @Override
+                public boolean delistResource(XAResource xaRes, int flag) {
+                    return false;
+                }
+
+                @Override
+                public boolean enlistResource(XAResource xaRes) {
+                    return false;
+                }
+
+                @Override
+                public void rollback() {
+                }
+
+                @Override
+                public void setRollbackOnly() {
+                }
+            };
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void resume(Transaction tobj) {
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public void setTransactionTimeout(int seconds) {
+        }
+
+        @Override
+        public Transaction suspend() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.quarkus.arc.test.resolution;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class PrecomputedResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, Alpha.class, Bravo.class, Charlie.class,
+            MyQualifier.class, Consumer.class, ListProducer.class);
+
+    @Test
+    public void testProgrammaticLookup() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        // Alpha and Charlie match but Charlie is a selected alternative
+        assertEquals("charlie", consumer.defaultService.get().ping());
+        assertEquals("bravo", consumer.allServices.select(new MyQualifier.Literal()).get().ping());
+        assertEquals("bravo", consumer.qualifiedService.get().ping());
+        assertEquals("foo", consumer.list.get().get(0));
+        assertTrue(consumer.unsatisfied.isUnsatisfied());
+    }
+
+    @Test
+    public void testQualifiersOrder() {
+        ArcContainer arc = Arc.container();
+        // The order of qualifiers must not affect the result
+        assertEquals("bravo",
+                arc.select(Service.class, new MyQualifier.Literal(), NamedLiteral.of("bravo")).get().ping());
+        assertEquals("bravo",
+                arc.select(Service.class, NamedLiteral.of("bravo"), new MyQualifier.Literal()).get().ping());
+        assertEquals("foo", arc.instance(new TypeLiteral<List<String>>() {
+        }).get().get(0));
+    }
+
+    @Test
+    public void testNameResolution() {
+        ArcContainer arc = Arc.container();
+        assertEquals("alpha", ((Service) arc.instance("alpha").get()).ping());
+        assertEquals("bravo", ((Service) arc.instance("bravo").get()).ping());
+        assertFalse(arc.instance("charlie").isAvailable());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Named("alpha")
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Named("bravo")
+    @MyQualifier
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Priority(1)
+    @Alternative
+    @Singleton
+    static class Charlie implements Service {
+
+        @Override
+        public String ping() {
+            return "charlie";
+        }
+
+    }
+
+    @Singleton
+    static class ListProducer {
+
+        @Produces
+        List<String> list = List.of("foo");
+
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        Instance<Service> defaultService;
+
+        @Any
+        @Inject
+        Instance<Service> allServices;
+
+        @Named("bravo")
+        @MyQualifier
+        @Inject
+        Instance<Service> qualifiedService;
+
+        @Inject
+        Instance<List<String>> list;
+
+        @Inject
+        Instance<List<Integer>> unsatisfied;
+
+    }
+
+    @Qualifier
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    @Retention(RUNTIME)
+    @interface MyQualifier {
+
+        @SuppressWarnings("all")
+        static class Literal extends AnnotationLiteral<MyQualifier> implements MyQualifier {
+
+        }
+
+    }
+
+}
@@ -1,12 +1,14 @@
 package io.quarkus.arc.test.resolution;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.AbstractList;
 import java.util.List;
 
+import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Singleton;
 
@@ -21,7 +23,7 @@ import io.quarkus.arc.test.ArcTestContainer;
 public class RuntimeResolutionTest {
 
     @RegisterExtension
-    public ArcTestContainer container = new ArcTestContainer(MyList.class);
+    public ArcTestContainer container = new ArcTestContainer(MyList.class, Producers.class);
 
     @SuppressWarnings("serial")
     @Test
@@ -34,6 +36,32 @@ public class RuntimeResolutionTest {
         assertEquals(Integer.valueOf(7), list.get().get(1));
     }
 
+    @Test
+    public void testPrimitiveAndArrayResolution() {
+        ArcContainer arc = Arc.container();
+        assertEquals(42, arc.instance(int.class).get());
+        assertEquals(42, arc.instance(Integer.class).get());
+        assertEquals("foo", arc.instance(String[].class).get()[0]);
+        assertEquals(2, arc.instance(new TypeLiteral<List<String>[]>() {
+        }).get().length);
+        assertFalse(arc.instance(long.class).isAvailable());
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        int answer = 42;
+
+        @Produces
+        String[] strings = { "foo" };
+
+        @SuppressWarnings("unchecked")
+        @Produces
+        List<String>[] lists = new List[] { List.of(), List.of() };
+
+    }
+
     @Singleton
     static class MyList extends AbstractList<Integer> {
 
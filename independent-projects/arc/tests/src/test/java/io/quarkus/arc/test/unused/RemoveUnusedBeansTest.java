@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.ParameterizedType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -65,6 +66,10 @@ public class RemoveUnusedBeansTest extends RemoveUnusedComponentsTest {
         assertPresent(UsedViaInstanceWithUnusedProducer.class);
         assertNotPresent(Long.class);
         assertFalse(ArcContainerImpl.instance().getRemovedBeans().isEmpty());
+        // BigDecimal has the bean type Comparable<BigDecimal>
+        assertTrue(ArcContainerImpl.instance().getRemovedBeans().stream().flatMap(b -> b.getTypes().stream())
+                .filter(ParameterizedType.class::isInstance)
+                .anyMatch(t -> Comparable.class.equals(((ParameterizedType) t).getRawType())));
         assertNotPresent(UnusedBean.class);
         assertNotPresent(OnlyInjectedInUnusedBean.class);
     }